@@ -0,0 +1,81 @@
+package com.ozge.aggregate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Length of the periods of a refund series. Weeks start on Monday and months on their
+ * first day; the first period of a series starts at its first day whatever the interval.
+ */
+public enum Interval {
+
+	DAY {
+		@Override
+		public LocalDate start(LocalDate day) {
+			return day;
+		}
+
+		@Override
+		public LocalDate next(LocalDate day) {
+			return day.plusDays(1);
+		}
+
+		@Override
+		public int index(LocalDate fromDate, LocalDate day) {
+			return (int) ChronoUnit.DAYS.between(fromDate, day);
+		}
+	},
+
+	WEEK {
+		@Override
+		public LocalDate start(LocalDate day) {
+			return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+		}
+
+		@Override
+		public LocalDate next(LocalDate day) {
+			return start(day).plusWeeks(1);
+		}
+
+		@Override
+		public int index(LocalDate fromDate, LocalDate day) {
+			return (int) (ChronoUnit.DAYS.between(start(fromDate), start(day)) / 7);
+		}
+	},
+
+	MONTH {
+		@Override
+		public LocalDate start(LocalDate day) {
+			return day.withDayOfMonth(1);
+		}
+
+		@Override
+		public LocalDate next(LocalDate day) {
+			return start(day).plusMonths(1);
+		}
+
+		@Override
+		public int index(LocalDate fromDate, LocalDate day) {
+			return (int) ChronoUnit.MONTHS.between(YearMonth.from(fromDate), YearMonth.from(day));
+		}
+	};
+
+	/**
+	 * First day of the period containing the day.
+	 */
+	public abstract LocalDate start(LocalDate day);
+
+	/**
+	 * First day of the period following the one containing the day.
+	 */
+	public abstract LocalDate next(LocalDate day);
+
+	/**
+	 * Index of the period containing the day, in a series starting at fromDate.
+	 */
+	public abstract int index(LocalDate fromDate, LocalDate day);
+
+}
@@ -0,0 +1,10 @@
+package com.ozge.aggregate;
+
+/**
+ * Refund figure merchants are ranked by.
+ */
+public enum RefundMetric {
+
+	COUNT, TOTAL
+
+}
@@ -0,0 +1,44 @@
+package com.ozge.aggregate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.ozge.model.response.CurrencySeries;
+
+/**
+ * Sums refund counts and totals per period into one pair of primitive arrays per currency,
+ * dense over all periods of the series. Currencies are reported in the order they were
+ * first added. Not thread safe.
+ */
+public class RefundSeries {
+
+	private final int periods;
+
+	private final Map<String, CurrencySeries> currencies = new LinkedHashMap<>();
+
+	public RefundSeries(int periods) {
+		this.periods = periods;
+	}
+
+	public void add(int period, String currency, int count, long total) {
+
+		CurrencySeries currencySeries = currencies.get(currency);
+
+		if (Objects.isNull(currencySeries)) {
+			currencySeries = new CurrencySeries(currency, new int[periods], new long[periods]);
+			currencies.put(currency, currencySeries);
+		}
+
+		currencySeries.getCounts()[period] += count;
+		currencySeries.getTotals()[period] += total;
+
+	}
+
+	public List<CurrencySeries> series() {
+		return new ArrayList<>(currencies.values());
+	}
+
+}
@@ -0,0 +1,209 @@
+package com.ozge.aggregate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.ozge.model.response.MerchantRefundReport;
+import com.ozge.model.response.RefundReport;
+
+/**
+ * Sums refund counts and totals per merchant and currency into primitive arrays. Merchants
+ * are found through an open addressing table of their ids and currencies through a map to
+ * their column, so adding a row allocates nothing once its merchant and currency are known.
+ * Merchants and currencies are reported in the order they were first added. Amounts are
+ * only ever summed within their currency; counts beyond an int are reported as
+ * {@link Integer#MAX_VALUE}. Not thread safe.
+ */
+public class RefundTotals {
+
+	private static final int EMPTY = -1;
+
+	// row of the merchant hashed to each slot, kept at most half full
+	private int[] slots;
+
+	private int[] merchants;
+
+	private int rows;
+
+	private final Map<String, Integer> columns = new HashMap<>();
+
+	private final List<String> currencies = new ArrayList<>();
+
+	// [column][row]
+	private long[][] counts = new long[0][];
+
+	private long[][] totals = new long[0][];
+
+	private long[] currencyCounts = new long[0];
+
+	private long[] currencyTotals = new long[0];
+
+	private long count;
+
+	public RefundTotals(int expectedMerchants) {
+		int capacity = Math.max(1, expectedMerchants);
+
+		merchants = new int[capacity];
+		slots = new int[Integer.highestOneBit(capacity) << 2];
+		Arrays.fill(slots, EMPTY);
+	}
+
+	/**
+	 * Adds the merchant so that it is reported even if it has no refunds.
+	 */
+	public void addMerchant(int merchant) {
+		row(merchant);
+	}
+
+	public void add(int merchant, String currency, int count, long total) {
+		int row = row(merchant);
+		int column = column(currency);
+
+		counts[column][row] += count;
+		totals[column][row] += total;
+		add(column, count, total);
+	}
+
+	/**
+	 * Adds refunds that belong to no particular merchant; they only count towards the
+	 * currency totals and the grand count.
+	 */
+	public void add(String currency, int count, long total) {
+		add(column(currency), count, total);
+	}
+
+	public List<MerchantRefundReport> merchants() {
+
+		List<MerchantRefundReport> merchantRefundReports = new ArrayList<>(rows);
+
+		for (int row = 0; row < rows; row++) {
+			List<RefundReport> refundReports = new ArrayList<>();
+
+			for (int column = 0; column < currencies.size(); column++) {
+				if (counts[column][row] != 0 || totals[column][row] != 0) {
+					refundReports.add(new RefundReport(saturated(counts[column][row]), totals[column][row], currencies.get(column)));
+				}
+			}
+
+			merchantRefundReports.add(new MerchantRefundReport(merchants[row], refundReports));
+		}
+
+		return merchantRefundReports;
+
+	}
+
+	public List<RefundReport> currencies() {
+
+		List<RefundReport> refundReports = new ArrayList<>(currencies.size());
+
+		for (int column = 0; column < currencies.size(); column++) {
+			refundReports.add(new RefundReport(saturated(currencyCounts[column]), currencyTotals[column], currencies.get(column)));
+		}
+
+		return refundReports;
+
+	}
+
+	public long count() {
+		return count;
+	}
+
+	private void add(int column, int count, long total) {
+		currencyCounts[column] += count;
+		currencyTotals[column] += total;
+		this.count += count;
+	}
+
+	private int row(int merchant) {
+
+		int mask = slots.length - 1;
+
+		for (int slot = hash(merchant) & mask; ; slot = (slot + 1) & mask) {
+			int row = slots[slot];
+
+			if (row == EMPTY) {
+				return insert(slot, merchant);
+			}
+			if (merchants[row] == merchant) {
+				return row;
+			}
+		}
+
+	}
+
+	private int insert(int slot, int merchant) {
+
+		if (rows == merchants.length) {
+			merchants = Arrays.copyOf(merchants, rows * 2);
+			for (int column = 0; column < currencies.size(); column++) {
+				counts[column] = Arrays.copyOf(counts[column], merchants.length);
+				totals[column] = Arrays.copyOf(totals[column], merchants.length);
+			}
+		}
+
+		merchants[rows] = merchant;
+		slots[slot] = rows;
+		rows++;
+
+		if (rows * 2 > slots.length) {
+			rehash(slots.length * 2);
+		}
+
+		return rows - 1;
+
+	}
+
+	private void rehash(int capacity) {
+
+		slots = new int[capacity];
+		Arrays.fill(slots, EMPTY);
+
+		int mask = capacity - 1;
+
+		for (int row = 0; row < rows; row++) {
+			int slot = hash(merchants[row]) & mask;
+			while (slots[slot] != EMPTY) {
+				slot = (slot + 1) & mask;
+			}
+			slots[slot] = row;
+		}
+
+	}
+
+	private int column(String currency) {
+
+		Integer column = columns.get(currency);
+
+		if (Objects.nonNull(column)) {
+			return column;
+		}
+
+		int added = currencies.size();
+		columns.put(currency, added);
+		currencies.add(currency);
+
+		counts = Arrays.copyOf(counts, added + 1);
+		totals = Arrays.copyOf(totals, added + 1);
+		counts[added] = new long[merchants.length];
+		totals[added] = new long[merchants.length];
+		currencyCounts = Arrays.copyOf(currencyCounts, added + 1);
+		currencyTotals = Arrays.copyOf(currencyTotals, added + 1);
+
+		return added;
+
+	}
+
+	private static int saturated(long count) {
+		return (int) Math.min(count, Integer.MAX_VALUE);
+	}
+
+	private static int hash(int merchant) {
+		int hash = merchant * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+}
@@ -0,0 +1,89 @@
+package com.ozge.aggregate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.ozge.model.response.MerchantRanking;
+
+/**
+ * The N merchants with the highest refund figure among those offered, kept in a min-heap
+ * of at most N entries so that offering a merchant costs O(log N) and memory stays O(N)
+ * however many merchants are offered. Equal figures rank the lower merchant id first.
+ * Not thread safe.
+ */
+public final class TopMerchants {
+
+	private final RefundMetric metric;
+
+	private final int limit;
+
+	private final Comparator<Entry> order;
+
+	// weakest entry at the head, evicted first
+	private final PriorityQueue<Entry> heap;
+
+	public TopMerchants(RefundMetric metric, int limit) {
+		this.metric = metric;
+		this.limit = limit;
+		order = Comparator.<Entry> comparingLong(entry -> entry.value)
+				.thenComparing(Comparator.<Entry> comparingInt(entry -> entry.merchant).reversed());
+		heap = new PriorityQueue<>(Math.max(1, limit), order);
+	}
+
+	public void offer(int merchant, long count, long total) {
+
+		if (limit <= 0) {
+			return;
+		}
+
+		Entry entry = new Entry(merchant, count, total, metric == RefundMetric.COUNT ? count : total);
+
+		if (heap.size() < limit) {
+			heap.add(entry);
+		} else if (order.compare(entry, heap.peek()) > 0) {
+			heap.poll();
+			heap.add(entry);
+		}
+
+	}
+
+	/**
+	 * The kept merchants, highest figure first.
+	 */
+	public List<MerchantRanking> ranking() {
+
+		List<Entry> entries = new ArrayList<>(heap);
+		entries.sort(order.reversed());
+
+		List<MerchantRanking> ranking = new ArrayList<>(entries.size());
+		for (int i = 0; i < entries.size(); i++) {
+			Entry entry = entries.get(i);
+			ranking.add(new MerchantRanking(i + 1, entry.merchant, entry.count, entry.total));
+		}
+
+		return ranking;
+
+	}
+
+	private static final class Entry {
+
+		private final int merchant;
+
+		private final long count;
+
+		private final long total;
+
+		private final long value;
+
+		private Entry(int merchant, long count, long total, long value) {
+			this.merchant = merchant;
+			this.count = count;
+			this.total = total;
+			this.value = value;
+		}
+
+	}
+
+}
@@ -0,0 +1,205 @@
+package com.ozge.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.ozge.configuration.properties.TokenCache;
+import com.ozge.configuration.properties.UserServiceProperties;
+import com.ozge.model.request.Credentials;
+import com.ozge.model.response.AuthToken;
+import com.ozge.util.TokenUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Login tokens per credentials, keyed on a keyed hash so that passwords are never held
+ * as map keys. A token is kept until the expiry read from its claims, and a hit within
+ * the refresh-ahead window renews it in the background while the current token is served.
+ */
+@Component
+public class AuthTokenCache {
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	private final Map<String, Entry> entries;
+
+	private final SecretKeySpec keySecret;
+
+	private final Clock clock;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Executor refreshExecutor;
+
+	private final Duration lifetime;
+
+	private final Duration refreshAhead;
+
+	@Autowired
+	public AuthTokenCache(Clock clock, MeterRegistry meterRegistry, UserServiceProperties properties,
+			@Qualifier("authTokenRefreshExecutor") Executor refreshExecutor) {
+		TokenCache cache = properties.getCache();
+		int maxEntries = cache.getMaxEntries();
+
+		this.entries = Collections.synchronizedMap(new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxEntries;
+			}
+
+		});
+
+		byte[] secret = new byte[32];
+		new SecureRandom().nextBytes(secret);
+
+		this.keySecret = new SecretKeySpec(secret, HMAC_ALGORITHM);
+		this.clock = clock;
+		this.meterRegistry = meterRegistry;
+		this.refreshExecutor = refreshExecutor;
+		this.lifetime = cache.getLifetime();
+		this.refreshAhead = cache.getRefreshAhead();
+	}
+
+	/**
+	 * Returns the cached token of the credentials, logging in with the given function
+	 * when there is none or it has expired.
+	 */
+	public AuthToken get(Credentials credentials, Function<Credentials, AuthToken> login) {
+
+		String key = keyOf(credentials);
+		Instant now = clock.instant();
+		Entry entry = entries.get(key);
+
+		if (Objects.nonNull(entry) && now.isBefore(entry.expiresAt)) {
+			meterRegistry.counter("auth.token.cache.requests", "result", "hit").increment();
+
+			if (!now.isBefore(entry.refreshAt) && entry.refreshing.compareAndSet(false, true)) {
+				refresh(key, entry, credentials, login);
+			}
+
+			return entry.authToken;
+		}
+
+		meterRegistry.counter("auth.token.cache.requests", "result", "miss").increment();
+
+		AuthToken authToken = login.apply(credentials);
+		put(key, authToken, now);
+
+		return authToken;
+
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private void refresh(String key, Entry entry, Credentials credentials, Function<Credentials, AuthToken> login) {
+
+		try {
+			refreshExecutor.execute(() -> {
+				try {
+					put(key, login.apply(credentials), clock.instant());
+					meterRegistry.counter("auth.token.cache.refreshes", "result", "success").increment();
+				} catch (RuntimeException exp) {
+					// the current token is dropped so that the next login reports the failure
+					log.warn("Auth token refresh failed -> ( {} )", exp.getMessage());
+					entries.remove(key, entry);
+					meterRegistry.counter("auth.token.cache.refreshes", "result", "failure").increment();
+				}
+			});
+		} catch (RejectedExecutionException exp) {
+			entry.refreshing.set(false);
+		}
+
+	}
+
+	private void put(String key, AuthToken authToken, Instant now) {
+
+		if (Objects.isNull(authToken) || Objects.isNull(authToken.getToken())) {
+			entries.remove(key);
+			return;
+		}
+
+		Instant expiresAt = expiresAt(authToken.getToken(), now);
+
+		if (!expiresAt.isAfter(now)) {
+			entries.remove(key);
+			return;
+		}
+
+		Instant refreshAt = expiresAt.minus(refreshAhead);
+		entries.put(key, new Entry(authToken, expiresAt, refreshAt.isAfter(now) ? refreshAt : now));
+
+	}
+
+	private Instant expiresAt(String token, Instant now) {
+
+		Instant latest = now.plus(lifetime);
+		Instant expiresAt = TokenUtils.decodeClaims(token)
+				.flatMap(claims -> TokenUtils.expiresAt(claims, lifetime))
+				.orElse(latest);
+
+		// never trust a claimed expiry beyond the configured lifetime
+		return expiresAt.isBefore(latest) ? expiresAt : latest;
+
+	}
+
+	private String keyOf(Credentials credentials) {
+
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(keySecret);
+			mac.update(String.valueOf(credentials.getEmail()).getBytes(StandardCharsets.UTF_8));
+			mac.update((byte) 0);
+			mac.update(String.valueOf(credentials.getPassword()).getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal());
+		} catch (GeneralSecurityException exp) {
+			throw new IllegalStateException(exp);
+		}
+
+	}
+
+	private static final class Entry {
+
+		private final AuthToken authToken;
+
+		private final Instant expiresAt;
+
+		private final Instant refreshAt;
+
+		private final AtomicBoolean refreshing = new AtomicBoolean();
+
+		private Entry(AuthToken authToken, Instant expiresAt, Instant refreshAt) {
+			this.authToken = authToken;
+			this.expiresAt = expiresAt;
+			this.refreshAt = refreshAt;
+		}
+
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.ozge.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Component;
+
+import com.ozge.util.TokenUtils;
+
+/**
+ * Resolves which cached upstream data an authorization token may read. Tokens carrying
+ * the same merchant claims share a scope, but a token is only given its scope after the
+ * upstream has accepted it once, so that forged claims never reach cached data.
+ */
+@Component
+public class AuthorizationScopes {
+
+	private static final int MAX_VERIFIED_TOKENS = 10_000;
+
+	private final Map<String, String> verifiedScopes = Collections.synchronizedMap(
+			new LinkedHashMap<String, String>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+					return size() > MAX_VERIFIED_TOKENS;
+				}
+
+			});
+
+	public Optional<String> verifiedScope(String authToken) {
+		return Optional.ofNullable(verifiedScopes.get(TokenUtils.sha256(authToken)));
+	}
+
+	/**
+	 * Records that the upstream accepted the token and returns its scope.
+	 */
+	public String verify(String authToken) {
+		String scope = scopeOf(authToken);
+		verifiedScopes.put(TokenUtils.sha256(authToken), scope);
+		return scope;
+	}
+
+	private static String scopeOf(String authToken) {
+		return TokenUtils.decodeClaims(authToken)
+				.filter(claims -> claims.getMerchantId() != null)
+				.map(claims -> "merchant:" + claims.getMerchantId() + ":" + claims.getRole() + ":"
+						+ (claims.getSubMerchantIds() == null ? "[]" : new TreeSet<>(claims.getSubMerchantIds())))
+				.orElseGet(() -> "token:" + TokenUtils.sha256(authToken));
+	}
+
+}
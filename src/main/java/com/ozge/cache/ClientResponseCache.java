@@ -0,0 +1,167 @@
+package com.ozge.cache;
+
+import java.lang.reflect.Modifier;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.ozge.configuration.properties.ClientCache;
+import com.ozge.configuration.properties.ClientServiceProperties;
+import com.ozge.model.response.ClientResponse;
+import com.ozge.model.response.CustomerInfo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Client responses per (scope, transaction id), bounded by their estimated heap size.
+ * Transactions without customer information are kept as negative entries with a shorter
+ * time to live. Least recently used entries are evicted first once the bound is exceeded.
+ */
+@Component
+public class ClientResponseCache {
+
+	// map node with its access order links, key and entry of every cached transaction
+	private static final long ENTRY_OVERHEAD = 160;
+
+	private static final long OBJECT_HEADER = 16;
+
+	private static final long REFERENCE = 8;
+
+	// a cache of the bound smaller than this is kept in a single segment
+	private static final long MIN_SEGMENT_BYTES = 64 * 1024;
+
+	private static final long CUSTOMER_INFO_FIELDS = Arrays.stream(CustomerInfo.class.getDeclaredFields())
+			.filter(field -> !Modifier.isStatic(field.getModifiers()))
+			.count();
+
+	private static final long DATE = 24;
+
+	private static final long INTEGER = 16;
+
+	private final WeightedLruCache<String, Entry> entries;
+
+	private final Clock clock;
+
+	private final MeterRegistry meterRegistry;
+
+	private final long maxBytes;
+
+	private final Duration ttl;
+
+	private final Duration negativeTtl;
+
+	@Autowired
+	public ClientResponseCache(Clock clock, MeterRegistry meterRegistry, ClientServiceProperties properties) {
+		ClientCache cache = properties.getCache();
+
+		this.clock = clock;
+		this.meterRegistry = meterRegistry;
+		maxBytes = cache.getMaxBytes();
+		ttl = cache.getTtl();
+		negativeTtl = cache.getNegativeTtl();
+		entries = new WeightedLruCache<>(maxBytes, MIN_SEGMENT_BYTES, (key, entry) -> entry.weight);
+
+		meterRegistry.gauge("client.cache.bytes", entries, WeightedLruCache::weight);
+	}
+
+	/**
+	 * Returns the cached lookup of the transaction: empty when there is none, an empty
+	 * inner optional when the upstream had no customer information for it.
+	 */
+	public Optional<Optional<ClientResponse>> get(String scope, String transactionId) {
+
+		Entry entry = entries.get(scope + "|" + transactionId);
+
+		if (Objects.isNull(entry) || !entry.expiresAt.isAfter(clock.instant())) {
+			meterRegistry.counter("client.cache.requests", "result", "miss").increment();
+			return Optional.empty();
+		}
+
+		meterRegistry.counter("client.cache.requests", "result", Objects.isNull(entry.clientResponse) ? "negative" : "hit").increment();
+
+		return Optional.of(Optional.ofNullable(entry.clientResponse));
+
+	}
+
+	public void put(String scope, String transactionId, ClientResponse clientResponse) {
+		put(scope + "|" + transactionId, clientResponse, clock.instant().plus(ttl), estimateBytes(clientResponse));
+	}
+
+	public void putMissing(String scope, String transactionId) {
+		put(scope + "|" + transactionId, null, clock.instant().plus(negativeTtl), 0);
+	}
+
+	/**
+	 * Drops every cached lookup, e.g. once the upstream corrected customer information.
+	 */
+	public int expire() {
+		return entries.removeIf((key, entry) -> true);
+	}
+
+	public long bytes() {
+		return entries.weight();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private void put(String key, ClientResponse clientResponse, Instant expiresAt, long responseBytes) {
+		entries.put(key, new Entry(clientResponse, expiresAt, ENTRY_OVERHEAD + 2L * key.length() + responseBytes));
+	}
+
+	private static long estimateBytes(ClientResponse clientResponse) {
+
+		long size = OBJECT_HEADER + REFERENCE;
+		CustomerInfo customerInfo = clientResponse.getCustomerInfo();
+
+		if (Objects.isNull(customerInfo)) {
+			return size;
+		}
+
+		size += OBJECT_HEADER + REFERENCE * CUSTOMER_INFO_FIELDS;
+		size += Objects.isNull(customerInfo.getId()) ? 0 : INTEGER;
+		size += Stream.of(customerInfo.getCreatedAt(), customerInfo.getUpdatedAt(), customerInfo.getDeletedAt())
+				.filter(Objects::nonNull).count() * DATE;
+
+		return size + Stream.of(customerInfo.getNumber(), customerInfo.getExpiryMonth(), customerInfo.getExpiryYear(),
+				customerInfo.getStartMonth(), customerInfo.getStartYear(), customerInfo.getIssueNumber(),
+				customerInfo.getEmail(), customerInfo.getBirthday(), customerInfo.getGender(),
+				customerInfo.getBillingTitle(), customerInfo.getBillingFirstName(), customerInfo.getBillingLastName(),
+				customerInfo.getBillingCompany(), customerInfo.getBillingAddress1(), customerInfo.getBillingAddress2(),
+				customerInfo.getBillingCity(), customerInfo.getBillingPostcode(), customerInfo.getBillingState(),
+				customerInfo.getBillingCountry(), customerInfo.getBillingPhone(), customerInfo.getBillingFax(),
+				customerInfo.getShippingTitle(), customerInfo.getShippingFirstName(), customerInfo.getShippingLastName(),
+				customerInfo.getShippingCompany(), customerInfo.getShippingAddress1(), customerInfo.getShippingAddress2(),
+				customerInfo.getShippingCity(), customerInfo.getShippingPostcode(), customerInfo.getShippingState(),
+				customerInfo.getShippingCountry(), customerInfo.getShippingPhone(), customerInfo.getShippingFax())
+				.filter(Objects::nonNull)
+				.mapToLong(value -> 40 + 2L * value.length())
+				.sum();
+
+	}
+
+	private static final class Entry {
+
+		private final ClientResponse clientResponse;
+
+		private final Instant expiresAt;
+
+		private final long weight;
+
+		private Entry(ClientResponse clientResponse, Instant expiresAt, long weight) {
+			this.clientResponse = clientResponse;
+			this.expiresAt = expiresAt;
+			this.weight = weight;
+		}
+
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.ozge.cache;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Canonical date range whose refund report can be cached and added to the reports of
+ * other buckets: a single day or a whole calendar month.
+ */
+public final class DateBucket {
+
+	public enum Granularity {
+		DAY, MONTH
+	}
+
+	private final LocalDate from;
+
+	private final LocalDate to;
+
+	private final Granularity granularity;
+
+	private DateBucket(LocalDate from, LocalDate to, Granularity granularity) {
+		this.from = from;
+		this.to = to;
+		this.granularity = granularity;
+	}
+
+	public static DateBucket day(LocalDate day) {
+		return new DateBucket(day, day, Granularity.DAY);
+	}
+
+	public static DateBucket month(YearMonth month) {
+		return new DateBucket(month.atDay(1), month.atEndOfMonth(), Granularity.MONTH);
+	}
+
+	/**
+	 * Covers [from, to] with whole months, and single days where a month is only
+	 * partially covered.
+	 */
+	public static List<DateBucket> split(LocalDate from, LocalDate to) {
+
+		List<DateBucket> buckets = new ArrayList<>();
+		LocalDate day = from;
+
+		while (!day.isAfter(to)) {
+			YearMonth month = YearMonth.from(day);
+
+			if (day.getDayOfMonth() == 1 && !month.atEndOfMonth().isAfter(to)) {
+				buckets.add(month(month));
+				day = month.plusMonths(1).atDay(1);
+			} else {
+				buckets.add(day(day));
+				day = day.plusDays(1);
+			}
+		}
+
+		return buckets;
+
+	}
+
+	public LocalDate getFrom() {
+		return from;
+	}
+
+	public LocalDate getTo() {
+		return to;
+	}
+
+	public Granularity getGranularity() {
+		return granularity;
+	}
+
+	/**
+	 * A bucket is closed once its last day is over; its report is not expected to change.
+	 */
+	public boolean isClosed(LocalDate today) {
+		return to.isBefore(today);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof DateBucket)) {
+			return false;
+		}
+		DateBucket that = (DateBucket) o;
+		return from.equals(that.from) && to.equals(that.to);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(from, to);
+	}
+
+	@Override
+	public String toString() {
+		return granularity + "[" + from + ".." + to + "]";
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.ozge.cache;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A JSON response body as written to clients, with its gzip copy when one is kept. The
+ * entity tags are computed once, when the body is cached.
+ */
+public final class EncodedResponse {
+
+	private final byte[] body;
+
+	private final byte[] gzipBody;
+
+	private final String etag;
+
+	private final Instant expiresAt;
+
+	public EncodedResponse(byte[] body, byte[] gzipBody, String etag, Instant expiresAt) {
+		this.body = body;
+		this.gzipBody = gzipBody;
+		this.etag = etag;
+		this.expiresAt = expiresAt;
+	}
+
+	public byte[] getBody() {
+		return body;
+	}
+
+	public byte[] getGzipBody() {
+		return gzipBody;
+	}
+
+	public boolean hasGzipBody() {
+		return Objects.nonNull(gzipBody);
+	}
+
+	public String getEtag() {
+		return etag;
+	}
+
+	/**
+	 * The tag of the gzip copy, which as a different representation has a different strong
+	 * entity tag.
+	 */
+	public String getGzipEtag() {
+		return etag.substring(0, etag.length() - 1) + "-gzip\"";
+	}
+
+	public Instant getExpiresAt() {
+		return expiresAt;
+	}
+
+	long weight() {
+		return body.length + (hasGzipBody() ? gzipBody.length : 0);
+	}
+
+}
@@ -0,0 +1,169 @@
+package com.ozge.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.model.response.RefundReportResponse;
+import com.ozge.rollup.RefundRollupStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Refund reports of single date buckets per (scope, merchant, acquirer). Entries expire
+ * as decided by the {@link RefundReportCachePolicy}, and least recently used entries are
+ * evicted first once the configured size is exceeded. Lookups are counted per result and bucket age.
+ * <p>
+ * When closed buckets never expire, closed days are also kept in the
+ * {@link RefundRollupStore}, which answers closed buckets missing here after a restart.
+ */
+@Component
+public class RefundReportBucketCache {
+
+	private static final long MIN_SEGMENT_ENTRIES = 64;
+
+	private final WeightedLruCache<Key, Entry> entries;
+
+	private final RefundReportCachePolicy policy;
+
+	private final Clock clock;
+
+	private final MeterRegistry meterRegistry;
+
+	private final RefundRollupStore rollupStore;
+
+	public RefundReportBucketCache(RefundReportCachePolicy policy, Clock clock, MeterRegistry meterRegistry,
+			ReportServiceProperties properties) {
+		this(policy, clock, meterRegistry, properties, Optional.empty());
+	}
+
+	@Autowired
+	public RefundReportBucketCache(RefundReportCachePolicy policy, Clock clock, MeterRegistry meterRegistry,
+			ReportServiceProperties properties, Optional<RefundRollupStore> rollupStore) {
+		Duration closedTtl = properties.getCache().getClosedTtl();
+
+		this.policy = policy;
+		this.clock = clock;
+		this.meterRegistry = meterRegistry;
+		entries = new WeightedLruCache<>(properties.getCache().getMaxEntries(), MIN_SEGMENT_ENTRIES, (key, entry) -> 1);
+		// closed days that are meant to be refreshed must not outlive their time to live on disk
+		this.rollupStore = closedTtl.isZero() || closedTtl.isNegative() ? rollupStore.orElse(null) : null;
+	}
+
+	public Optional<RefundReportResponse> get(String scope, Integer merchant, Integer acquirer, DateBucket bucket) {
+
+		Key key = new Key(scope, merchant, acquirer, bucket);
+		Entry entry = entries.get(key);
+		LocalDate today = LocalDate.now(clock);
+		boolean hit = Objects.nonNull(entry) && entry.expiresAt.isAfter(clock.instant());
+		Optional<RefundReportResponse> rolledUp = Optional.empty();
+
+		if (!hit && Objects.nonNull(rollupStore) && bucket.isClosed(today)) {
+			rolledUp = rollupStore.get(scope, merchant, acquirer, bucket.getFrom(), bucket.getTo());
+			rolledUp.ifPresent(refundReportResponse -> store(key, refundReportResponse, today));
+		}
+
+		meterRegistry.counter("report.bucket.cache.requests",
+				"result", hit ? "hit" : rolledUp.isPresent() ? "rollup" : "miss",
+				"age", policy.age(bucket, today)).increment();
+
+		return hit ? Optional.of(entry.refundReportResponse) : rolledUp;
+
+	}
+
+	public void put(String scope, Integer merchant, Integer acquirer, DateBucket bucket,
+			RefundReportResponse refundReportResponse) {
+
+		LocalDate today = LocalDate.now(clock);
+
+		store(new Key(scope, merchant, acquirer, bucket), refundReportResponse, today);
+
+		if (Objects.nonNull(rollupStore) && bucket.getGranularity() == DateBucket.Granularity.DAY && bucket.isClosed(today)) {
+			rollupStore.put(scope, merchant, acquirer, bucket.getFrom(), refundReportResponse);
+		}
+
+	}
+
+	/**
+	 * Expires every bucket overlapping [fromDate, toDate], of all scopes, and drops the
+	 * stored days of the range.
+	 *
+	 * @return the number of expired buckets and dropped days
+	 */
+	public int expire(LocalDate fromDate, LocalDate toDate) {
+
+		int expired = Objects.isNull(rollupStore) ? 0 : rollupStore.expire(fromDate, toDate);
+
+		return expired + entries.removeIf((key, entry) -> !key.bucket.getFrom().isAfter(toDate)
+				&& !key.bucket.getTo().isBefore(fromDate));
+
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private void store(Key key, RefundReportResponse refundReportResponse, LocalDate today) {
+
+		entries.put(key, new Entry(refundReportResponse, policy.expiresAt(key.bucket, today, clock.instant())));
+
+	}
+
+	private static final class Entry {
+
+		private final RefundReportResponse refundReportResponse;
+
+		private final Instant expiresAt;
+
+		private Entry(RefundReportResponse refundReportResponse, Instant expiresAt) {
+			this.refundReportResponse = refundReportResponse;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+	private static final class Key {
+
+		private final String scope;
+
+		private final Integer merchant;
+
+		private final Integer acquirer;
+
+		private final DateBucket bucket;
+
+		private Key(String scope, Integer merchant, Integer acquirer, DateBucket bucket) {
+			this.scope = scope;
+			this.merchant = merchant;
+			this.acquirer = acquirer;
+			this.bucket = bucket;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) o;
+			return scope.equals(that.scope) && Objects.equals(merchant, that.merchant)
+					&& Objects.equals(acquirer, that.acquirer) && bucket.equals(that.bucket);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(scope, merchant, acquirer, bucket);
+		}
+
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.ozge.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.ozge.configuration.properties.ReportServiceProperties;
+
+/**
+ * Decides how long a cached bucket stays fresh. Refund totals of days that are over
+ * hardly ever change, while the data of today changes all the time.
+ */
+@Component
+public class RefundReportCachePolicy {
+
+	private final Duration closedTtl;
+
+	private final Duration openTtl;
+
+	@Autowired
+	public RefundReportCachePolicy(ReportServiceProperties properties) {
+		closedTtl = properties.getCache().getClosedTtl();
+		openTtl = properties.getCache().getOpenTtl();
+	}
+
+	public Instant expiresAt(DateBucket bucket, LocalDate today, Instant now) {
+
+		if (!bucket.isClosed(today)) {
+			return now.plus(openTtl);
+		}
+
+		return closedTtl.isZero() || closedTtl.isNegative() ? Instant.MAX : now.plus(closedTtl);
+
+	}
+
+	/**
+	 * Age class of a bucket for metrics: "open", or the number of days since the bucket
+	 * closed rounded up to 1d, 7d, 30d, 365d or "older".
+	 */
+	public String age(DateBucket bucket, LocalDate today) {
+
+		if (!bucket.isClosed(today)) {
+			return "open";
+		}
+
+		long days = ChronoUnit.DAYS.between(bucket.getTo(), today);
+
+		if (days <= 1) {
+			return "1d";
+		} else if (days <= 7) {
+			return "7d";
+		} else if (days <= 30) {
+			return "30d";
+		} else if (days <= 365) {
+			return "365d";
+		}
+
+		return "older";
+
+	}
+
+}
@@ -0,0 +1,169 @@
+package com.ozge.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozge.configuration.properties.ResponseCacheProperties;
+import com.ozge.util.HttpUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Encoded JSON response bodies per (endpoint, scope, normalized request), bounded by the
+ * size of the bodies and their gzip copies. Like the other caches, only tokens the
+ * upstream already accepted read entries, and least recently used entries are evicted
+ * first once the bound is exceeded.
+ */
+@Component
+public class ResponseBytesCache {
+
+	public enum Endpoint {
+		CLIENT, REFUNDS_REPORT
+	}
+
+	// map node with its access order links, key, entry and arrays of every cached body
+	private static final long ENTRY_OVERHEAD = 200;
+
+	// a body heavier than the share of its segment is not kept
+	private static final long MIN_SEGMENT_BYTES = 1024 * 1024;
+
+	private final WeightedLruCache<String, EncodedResponse> entries;
+
+	private final Clock clock;
+
+	private final MeterRegistry meterRegistry;
+
+	private final ObjectMapper objectMapper;
+
+	private final AuthorizationScopes authorizationScopes;
+
+	private final boolean enabled;
+
+	private final Duration clientTtl;
+
+	private final Duration reportTtl;
+
+	private final boolean precompress;
+
+	private final int minCompressBytes;
+
+	@Autowired
+	public ResponseBytesCache(Clock clock, MeterRegistry meterRegistry, ObjectMapper objectMapper,
+			AuthorizationScopes authorizationScopes, ResponseCacheProperties properties) {
+		this.clock = clock;
+		this.meterRegistry = meterRegistry;
+		this.objectMapper = objectMapper;
+		this.authorizationScopes = authorizationScopes;
+		enabled = properties.isEnabled();
+		clientTtl = properties.getClientTtl();
+		reportTtl = properties.getReportTtl();
+		precompress = properties.isPrecompress();
+		minCompressBytes = properties.getMinCompressBytes();
+		entries = new WeightedLruCache<>(properties.getMaxBytes(), MIN_SEGMENT_BYTES, ResponseBytesCache::weight);
+
+		meterRegistry.gauge("response.cache.bytes", entries, WeightedLruCache::weight);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public Optional<EncodedResponse> get(Endpoint endpoint, String authToken, String key) {
+
+		Optional<EncodedResponse> encodedResponse = authorizationScopes.verifiedScope(authToken)
+				.map(scope -> entries.get(endpoint + "|" + scope + "|" + key))
+				.filter(entry -> entry.getExpiresAt().isAfter(clock.instant()));
+
+		meterRegistry.counter("response.cache.requests", "endpoint", endpoint.name().toLowerCase(),
+				"result", encodedResponse.isPresent() ? "hit" : "miss").increment();
+
+		return encodedResponse;
+
+	}
+
+	/**
+	 * Encodes the response the way the JSON converter would and caches it for the scope of
+	 * the token, which the upstream must have accepted by now.
+	 */
+	public EncodedResponse put(Endpoint endpoint, String authToken, String key, Object response) {
+
+		Duration ttl = endpoint == Endpoint.CLIENT ? clientTtl : reportTtl;
+		EncodedResponse encodedResponse = encode(response, clock.instant().plus(ttl));
+
+		entries.put(endpoint + "|" + authorizationScopes.verify(authToken) + "|" + key, encodedResponse);
+
+		return encodedResponse;
+
+	}
+
+	/**
+	 * Encodes the response the way {@link #put} does without caching it, for answers that
+	 * cannot be cached but are still tagged. The gzip copy is made here as well, so that a
+	 * compressed body gets a strong tag of its own.
+	 */
+	public EncodedResponse encode(Object response) {
+		return encode(response, clock.instant());
+	}
+
+	/**
+	 * Drops every body of the endpoint, e.g. once the data behind them was restated.
+	 */
+	public int expire(Endpoint endpoint) {
+		return entries.removeIf((key, encodedResponse) -> key.startsWith(endpoint + "|"));
+	}
+
+	public long bytes() {
+		return entries.weight();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private EncodedResponse encode(Object response, Instant expiresAt) {
+
+		byte[] body;
+
+		try {
+			body = objectMapper.writeValueAsBytes(response);
+		} catch (IOException exp) {
+			throw new UncheckedIOException(exp);
+		}
+
+		byte[] gzipBody = precompress && body.length >= minCompressBytes ? gzip(body) : null;
+
+		return new EncodedResponse(body, Objects.nonNull(gzipBody) && gzipBody.length < body.length ? gzipBody : null,
+				HttpUtils.etag(body), expiresAt);
+
+	}
+
+	private static long weight(String key, EncodedResponse encodedResponse) {
+		return ENTRY_OVERHEAD + 2L * key.length() + encodedResponse.weight();
+	}
+
+	private static byte[] gzip(byte[] body) {
+
+		ByteArrayOutputStream gzipBody = new ByteArrayOutputStream(body.length / 2);
+
+		try (GZIPOutputStream out = new GZIPOutputStream(gzipBody)) {
+			out.write(body);
+		} catch (IOException exp) {
+			throw new UncheckedIOException(exp);
+		}
+
+		return gzipBody.toByteArray();
+
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.ozge.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.ozge.configuration.properties.AuthorizationProperties;
+import com.ozge.model.auth.TokenClaims;
+import com.ozge.util.TokenUtils;
+
+/**
+ * Decoded claims per authorization token, so that a token is parsed once however many
+ * requests carry it. Tokens that cannot be decoded are not kept.
+ */
+@Component
+public class TokenClaimsCache {
+
+	private final Map<String, TokenClaims> claims;
+
+	@Autowired
+	public TokenClaimsCache(AuthorizationProperties properties) {
+		int maxCachedTokens = properties.getMaxCachedTokens();
+
+		claims = Collections.synchronizedMap(new LinkedHashMap<String, TokenClaims>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, TokenClaims> eldest) {
+				return size() > maxCachedTokens;
+			}
+
+		});
+	}
+
+	public Optional<TokenClaims> get(String authToken) {
+
+		TokenClaims tokenClaims = claims.get(authToken);
+
+		if (Objects.nonNull(tokenClaims)) {
+			return Optional.of(tokenClaims);
+		}
+
+		Optional<TokenClaims> decoded = TokenUtils.decodeClaims(authToken);
+		decoded.ifPresent(value -> claims.put(authToken, value));
+
+		return decoded;
+
+	}
+
+}
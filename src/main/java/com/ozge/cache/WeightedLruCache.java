@@ -0,0 +1,148 @@
+package com.ozge.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Entries bounded by their total weight, evicting the least recently used ones first once
+ * the bound is exceeded. Keys are spread over independently locked segments, each holding
+ * an equal share of the bound, so that reads of different keys do not wait on each other;
+ * the access order, and thus the eviction, is kept per segment.
+ */
+final class WeightedLruCache<K, V> {
+
+	private static final int MAX_SEGMENTS = 16;
+
+	private final Segment<K, V>[] segments;
+
+	private final ToLongBiFunction<K, V> weigher;
+
+	/**
+	 * @param minSegmentWeight the smallest share of the bound worth a segment of its own,
+	 *        a small bound is kept in fewer segments to not evict entries a single one
+	 *        would keep
+	 */
+	@SuppressWarnings("unchecked")
+	WeightedLruCache(long maxWeight, long minSegmentWeight, ToLongBiFunction<K, V> weigher) {
+		int count = (int) Math.max(1, Math.min(MAX_SEGMENTS, Long.highestOneBit(Math.max(1, maxWeight / minSegmentWeight))));
+
+		this.weigher = weigher;
+		segments = new Segment[count];
+		for (int i = 0; i < count; i++) {
+			segments[i] = new Segment<>(maxWeight / count);
+		}
+	}
+
+	V get(K key) {
+		Segment<K, V> segment = segmentOf(key);
+
+		synchronized (segment) {
+			return segment.entries.get(key);
+		}
+	}
+
+	/**
+	 * Puts the value, replacing the one of the key, and evicts least recently used entries
+	 * of its segment until the segment's share of the bound holds again.
+	 */
+	void put(K key, V value) {
+		Segment<K, V> segment = segmentOf(key);
+
+		synchronized (segment) {
+
+			V previous = segment.entries.put(key, value);
+			long total = segment.weight + weigher.applyAsLong(key, value);
+
+			if (Objects.nonNull(previous)) {
+				total -= weigher.applyAsLong(key, previous);
+			}
+
+			for (Iterator<Map.Entry<K, V>> iterator = segment.entries.entrySet().iterator(); total > segment.maxWeight && iterator.hasNext(); ) {
+				Map.Entry<K, V> eldest = iterator.next();
+				total -= weigher.applyAsLong(eldest.getKey(), eldest.getValue());
+				iterator.remove();
+			}
+
+			segment.weight = total;
+
+		}
+	}
+
+	/**
+	 * Removes every entry matching the predicate, one segment at a time.
+	 *
+	 * @return the number of removed entries
+	 */
+	int removeIf(BiPredicate<? super K, ? super V> predicate) {
+
+		int removed = 0;
+
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+
+				long total = segment.weight;
+
+				for (Iterator<Map.Entry<K, V>> iterator = segment.entries.entrySet().iterator(); iterator.hasNext(); ) {
+					Map.Entry<K, V> entry = iterator.next();
+					if (predicate.test(entry.getKey(), entry.getValue())) {
+						total -= weigher.applyAsLong(entry.getKey(), entry.getValue());
+						iterator.remove();
+						removed++;
+					}
+				}
+
+				segment.weight = total;
+
+			}
+		}
+
+		return removed;
+
+	}
+
+	long weight() {
+		long weight = 0;
+		for (Segment<K, V> segment : segments) {
+			weight += segment.weight;
+		}
+		return weight;
+	}
+
+	int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				size += segment.entries.size();
+			}
+		}
+		return size;
+	}
+
+	int segments() {
+		return segments.length;
+	}
+
+	private Segment<K, V> segmentOf(K key) {
+		int hash = key.hashCode();
+		return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+	}
+
+	private static final class Segment<K, V> {
+
+		private final Map<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+		private final long maxWeight;
+
+		private volatile long weight;
+
+		private Segment(long maxWeight) {
+			this.maxWeight = maxWeight;
+		}
+
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.ozge.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs a number of indexed tasks as a fixed number of workers of an executor, each taking
+ * the next task until none is left, so that no more than that many threads are spent on
+ * the tasks however many there are.
+ */
+public final class BoundedWorkers {
+
+	private BoundedWorkers() {
+	}
+
+	/**
+	 * Runs the tasks and completes with the result once all of them are done. The first
+	 * failing task fails the run, and a run completed by its caller, when it gave up waiting
+	 * for instance, starts no further task either. A saturated executor runs the tasks on the
+	 * workers it already took.
+	 *
+	 * @throws RejectedExecutionException when the executor took no worker at all
+	 */
+	public static <T> CompletableFuture<T> run(int tasks, int parallelism, Executor executor, IntConsumer task,
+			Supplier<T> result) {
+
+		CompletableFuture<T> run = new CompletableFuture<>();
+		AtomicInteger next = new AtomicInteger();
+		int workers = Math.min(Math.max(1, parallelism), tasks);
+		List<CompletableFuture<Void>> runs = new ArrayList<>(workers);
+
+		for (int i = 0; i < workers; i++) {
+			try {
+				runs.add(CompletableFuture.runAsync(() -> {
+					try {
+						for (int index = next.getAndIncrement(); index < tasks; index = next.getAndIncrement()) {
+							task.accept(index);
+						}
+					} catch (RuntimeException | Error exp) {
+						next.set(tasks);
+						throw exp;
+					}
+				}, executor));
+			} catch (RejectedExecutionException exp) {
+				if (runs.isEmpty()) {
+					throw exp;
+				}
+				break;
+			}
+		}
+
+		CompletableFuture.allOf(runs.toArray(new CompletableFuture<?>[0])).whenComplete((done, exp) -> {
+			if (exp != null) {
+				run.completeExceptionally(exp);
+				return;
+			}
+			try {
+				run.complete(result.get());
+			} catch (RuntimeException resultExp) {
+				run.completeExceptionally(resultExp);
+			}
+		});
+
+		run.whenComplete((value, exp) -> {
+			if (exp != null) {
+				next.set(tasks);
+			}
+		});
+
+		return run;
+
+	}
+
+}
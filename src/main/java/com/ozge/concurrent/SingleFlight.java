@@ -0,0 +1,113 @@
+package com.ozge.concurrent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import com.ozge.configuration.properties.Coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Lets concurrent callers of the same key share one execution of a call, and its result
+ * or exception. In-flight keys are spread over lock stripes, each holding at most its
+ * share of the configured maximum; calls that do not fit run on their own.
+ */
+public class SingleFlight<K, V> {
+
+	private final Stripe<K, V>[] stripes;
+
+	private final int maxPerStripe;
+
+	private final Counter executedCounter;
+
+	private final Counter coalescedCounter;
+
+	private final Counter bypassedCounter;
+
+	@SuppressWarnings("unchecked")
+	public SingleFlight(String name, Coalescing coalescing, MeterRegistry meterRegistry) {
+		stripes = new Stripe[Math.max(1, coalescing.getStripes())];
+		for (int i = 0; i < stripes.length; i++) {
+			stripes[i] = new Stripe<>();
+		}
+
+		maxPerStripe = Math.max(1, coalescing.getMaxInFlight() / stripes.length);
+		executedCounter = meterRegistry.counter("single.flight.calls", "name", name, "result", "executed");
+		coalescedCounter = meterRegistry.counter("single.flight.calls", "name", name, "result", "coalesced");
+		bypassedCounter = meterRegistry.counter("single.flight.calls", "name", name, "result", "bypassed");
+	}
+
+	public V execute(K key, Supplier<V> call) {
+
+		Stripe<K, V> stripe = stripes[(key.hashCode() & Integer.MAX_VALUE) % stripes.length];
+		CompletableFuture<V> flight;
+		boolean leader = false;
+
+		synchronized (stripe) {
+			flight = stripe.flights.get(key);
+
+			if (Objects.isNull(flight) && stripe.flights.size() < maxPerStripe) {
+				flight = new CompletableFuture<>();
+				stripe.flights.put(key, flight);
+				leader = true;
+			}
+		}
+
+		if (Objects.isNull(flight)) {
+			bypassedCounter.increment();
+			return call.get();
+		}
+
+		if (!leader) {
+			coalescedCounter.increment();
+			return await(flight);
+		}
+
+		executedCounter.increment();
+
+		try {
+			V value = call.get();
+			flight.complete(value);
+			return value;
+		} catch (RuntimeException | Error exp) {
+			flight.completeExceptionally(exp);
+			throw exp;
+		} finally {
+			synchronized (stripe) {
+				stripe.flights.remove(key);
+			}
+		}
+
+	}
+
+	private static <V> V await(CompletableFuture<V> flight) {
+
+		try {
+			return flight.get();
+		} catch (InterruptedException exp) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(exp);
+		} catch (ExecutionException exp) {
+			if (exp.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) exp.getCause();
+			}
+			if (exp.getCause() instanceof Error) {
+				throw (Error) exp.getCause();
+			}
+			throw new IllegalStateException(exp.getCause());
+		}
+
+	}
+
+	private static final class Stripe<K, V> {
+
+		private final Map<K, CompletableFuture<V>> flights = new HashMap<>();
+
+	}
+
+}
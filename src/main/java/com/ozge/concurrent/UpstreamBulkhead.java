@@ -0,0 +1,100 @@
+package com.ozge.concurrent;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.ozge.configuration.properties.Bulkhead;
+import com.ozge.exception.BulkheadFullException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Limits the calls to one upstream in progress at once, so that a slow upstream holds no
+ * more than its share of the request threads. A call runs on its caller once it took a
+ * permit, so it costs no thread besides the one already waiting for it. A call beyond
+ * the permits waits in a bounded queue for at most the configured time; once the queue
+ * is full or the time is up it fails with a {@link BulkheadFullException}. A disabled
+ * bulkhead lets every call through.
+ */
+public class UpstreamBulkhead {
+
+	private final String name;
+
+	private final boolean enabled;
+
+	private final int maxConcurrentCalls;
+
+	private final int queueCapacity;
+
+	private final long maxWaitNanos;
+
+	private final Semaphore permits;
+
+	private final AtomicInteger waiting = new AtomicInteger();
+
+	private final Counter acceptedCounter;
+
+	private final Counter rejectedCounter;
+
+	public UpstreamBulkhead(String name, Bulkhead bulkhead, MeterRegistry meterRegistry) {
+		this.name = name;
+		enabled = bulkhead.isEnabled();
+		maxConcurrentCalls = Math.max(1, bulkhead.getMaxConcurrentCalls());
+		queueCapacity = Math.max(0, bulkhead.getQueueCapacity());
+		maxWaitNanos = bulkhead.getMaxWait().toNanos();
+		// fair, so that queued calls take the permits in their order
+		permits = new Semaphore(maxConcurrentCalls, true);
+
+		acceptedCounter = meterRegistry.counter("bulkhead.calls", "name", name, "result", "accepted");
+		rejectedCounter = meterRegistry.counter("bulkhead.calls", "name", name, "result", "rejected");
+
+		if (enabled) {
+			meterRegistry.gauge("bulkhead.calls.active", Tags.of("name", name), permits,
+					semaphore -> maxConcurrentCalls - semaphore.availablePermits());
+			meterRegistry.gauge("bulkhead.queue.depth", Tags.of("name", name), waiting, AtomicInteger::get);
+		}
+	}
+
+	public <V> V execute(Supplier<V> call) {
+
+		if (!enabled) {
+			return call.get();
+		}
+
+		if (!permits.tryAcquire() && !awaitPermit()) {
+			rejectedCounter.increment();
+			throw new BulkheadFullException("Too many calls to the " + name + " service, please retry later");
+		}
+
+		try {
+			acceptedCounter.increment();
+			return call.get();
+		} finally {
+			permits.release();
+		}
+
+	}
+
+	private boolean awaitPermit() {
+
+		if (waiting.incrementAndGet() > queueCapacity) {
+			waiting.decrementAndGet();
+			return false;
+		}
+
+		try {
+			return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException exp) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			waiting.decrementAndGet();
+		}
+
+	}
+
+}
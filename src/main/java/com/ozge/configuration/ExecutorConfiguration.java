@@ -0,0 +1,168 @@
+package com.ozge.configuration;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.ozge.concurrent.UpstreamBulkhead;
+import com.ozge.configuration.properties.Aggregate;
+import com.ozge.configuration.properties.Batch;
+import com.ozge.configuration.properties.ClientServiceProperties;
+import com.ozge.configuration.properties.FanOut;
+import com.ozge.configuration.properties.Refresh;
+import com.ozge.configuration.properties.ReportJobs;
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.configuration.properties.Series;
+import com.ozge.configuration.properties.TokenCache;
+import com.ozge.configuration.properties.UserServiceProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class ExecutorConfiguration {
+
+    @Bean
+    public ThreadPoolTaskExecutor reportFanOutExecutor(ReportServiceProperties properties) {
+        FanOut fanOut = properties.getFanOut();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(fanOut.getThreads());
+        executor.setMaxPoolSize(fanOut.getThreads());
+        executor.setQueueCapacity(fanOut.getQueueCapacity());
+        executor.setThreadNamePrefix("report-fan-out-");
+        // a saturated pool slows the submitting request down instead of failing it
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor reportAggregateExecutor(ReportServiceProperties properties) {
+        Aggregate aggregate = properties.getAggregate();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(aggregate.getThreads());
+        executor.setMaxPoolSize(aggregate.getThreads());
+        executor.setQueueCapacity(aggregate.getQueueCapacity());
+        executor.setThreadNamePrefix("report-aggregate-");
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor reportSeriesExecutor(ReportServiceProperties properties) {
+        Series series = properties.getSeries();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(series.getThreads());
+        executor.setMaxPoolSize(series.getThreads());
+        executor.setQueueCapacity(series.getQueueCapacity());
+        executor.setThreadNamePrefix("report-series-");
+        return executor;
+    }
+
+    /**
+     * Runs the streamed bodies of Spring MVC, the series streams, in place of its default
+     * executor that starts a thread per stream.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor reportStreamExecutor(ReportServiceProperties properties) {
+        Series series = properties.getSeries();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(series.getStreamThreads());
+        executor.setMaxPoolSize(series.getStreamThreads());
+        executor.setQueueCapacity(series.getStreamQueueCapacity());
+        executor.setThreadNamePrefix("report-stream-");
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor reportJobExecutor(ReportServiceProperties properties) {
+        ReportJobs jobs = properties.getJobs();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(jobs.getThreads());
+        executor.setMaxPoolSize(jobs.getThreads());
+        executor.setQueueCapacity(jobs.getQueueCapacity());
+        executor.setThreadNamePrefix("report-job-");
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler reportJobScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("report-job-scheduler-");
+        return scheduler;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "report-refunds.refresh", name = "enabled", havingValue = "true")
+    public ThreadPoolTaskExecutor reportRefreshExecutor(ReportServiceProperties properties) {
+        Refresh refresh = properties.getRefresh();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, refresh.getMaxConcurrency()));
+        executor.setMaxPoolSize(Math.max(1, refresh.getMaxConcurrency()));
+        executor.setQueueCapacity(Math.max(1, refresh.getJobs().size()));
+        executor.setThreadNamePrefix("report-refresh-");
+        return executor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "report-refunds.refresh", name = "enabled", havingValue = "true")
+    public ThreadPoolTaskScheduler reportRefreshScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("report-refresh-scheduler-");
+        return scheduler;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor clientBatchExecutor(ClientServiceProperties properties) {
+        Batch batch = properties.getBatch();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batch.getThreads());
+        executor.setMaxPoolSize(batch.getThreads());
+        executor.setQueueCapacity(batch.getQueueCapacity());
+        executor.setThreadNamePrefix("client-batch-");
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor authTokenRefreshExecutor(UserServiceProperties properties) {
+        TokenCache cache = properties.getCache();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cache.getRefreshThreads());
+        executor.setMaxPoolSize(cache.getRefreshThreads());
+        executor.setQueueCapacity(cache.getRefreshQueueCapacity());
+        executor.setThreadNamePrefix("auth-token-refresh-");
+        return executor;
+    }
+
+    @Bean
+    public UpstreamBulkhead loginBulkhead(UserServiceProperties properties, MeterRegistry meterRegistry) {
+        return new UpstreamBulkhead("login", properties.getLogin().getBulkhead(), meterRegistry);
+    }
+
+    @Bean
+    public UpstreamBulkhead userInfoBulkhead(UserServiceProperties properties, MeterRegistry meterRegistry) {
+        return new UpstreamBulkhead("user-info", properties.getInfo().getBulkhead(), meterRegistry);
+    }
+
+    @Bean
+    public UpstreamBulkhead clientBulkhead(ClientServiceProperties properties, MeterRegistry meterRegistry) {
+        return new UpstreamBulkhead("client", properties.getBulkhead(), meterRegistry);
+    }
+
+    @Bean
+    public UpstreamBulkhead reportBulkhead(ReportServiceProperties properties, MeterRegistry meterRegistry) {
+        return new UpstreamBulkhead("report", properties.getBulkhead(), meterRegistry);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.ozge.configuration;
+
+import java.time.Clock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.cache.TokenClaimsCache;
+import com.ozge.configuration.properties.AuthorizationProperties;
+import com.ozge.filter.AuthorizationTokenFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class FilterConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "authorization.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<AuthorizationTokenFilter> authorizationTokenFilter(TokenClaimsCache tokenClaimsCache,
+                                                                                     AuthorizationScopes authorizationScopes,
+                                                                                     ObjectMapper objectMapper,
+                                                                                     MeterRegistry meterRegistry,
+                                                                                     Clock clock,
+                                                                                     AuthorizationProperties properties) {
+        FilterRegistrationBean<AuthorizationTokenFilter> registration = new FilterRegistrationBean<>(
+                new AuthorizationTokenFilter(tokenClaimsCache, authorizationScopes, objectMapper, meterRegistry, clock, properties));
+        // every endpoint forwarding the caller's token upstream, but not /user/login, and the admin ones
+        registration.addUrlPatterns("/refunds/*", "/client/*", "/user/show", "/admin/*");
+        return registration;
+    }
+
+}
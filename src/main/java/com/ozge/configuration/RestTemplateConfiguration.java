@@ -1,16 +1,72 @@
 package com.ozge.configuration;
 
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.ozge.configuration.http.EndpointRoutingClientHttpRequestFactory;
+import com.ozge.configuration.properties.ClientServiceProperties;
+import com.ozge.configuration.properties.ConnectionPool;
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.configuration.properties.UserServiceProperties;
+
 @Configuration
 public class RestTemplateConfiguration {
 
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public EndpointRoutingClientHttpRequestFactory clientHttpRequestFactory(UserServiceProperties userServiceProperties,
+                                                                            ClientServiceProperties clientServiceProperties,
+                                                                            ReportServiceProperties reportServiceProperties) {
+        return new EndpointRoutingClientHttpRequestFactory(pooledRequestFactory(new ConnectionPool()))
+                .register(userServiceProperties.getLogin().getUrl(), pooledRequestFactory(userServiceProperties.getLogin().getPool()))
+                .register(userServiceProperties.getInfo().getUrl(), pooledRequestFactory(userServiceProperties.getInfo().getPool()))
+                .register(clientServiceProperties.getUrl(), pooledRequestFactory(clientServiceProperties.getPool()))
+                .register(reportServiceProperties.getUrl(), pooledRequestFactory(reportServiceProperties.getPool()));
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, EndpointRoutingClientHttpRequestFactory clientHttpRequestFactory) {
+        return builder.requestFactory(() -> clientHttpRequestFactory).build();
+    }
+
+    private static HttpComponentsClientHttpRequestFactory pooledRequestFactory(ConnectionPool pool) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(pool.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(pool.getMaxConnections());
+
+        long keepAlive = pool.getKeepAlive().toMillis();
+
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> {
+                    long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive) : keepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(pool.getIdleEviction().toMillis(), TimeUnit.MILLISECONDS);
+
+        // the client asks for gzip and deflate and decodes them on its own unless told not to
+        if (!pool.isCompression()) {
+            httpClientBuilder.disableContentCompression();
+        }
+
+        CloseableHttpClient httpClient = httpClientBuilder.build();
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setConnectTimeout((int) pool.getConnectTimeout().toMillis());
+        requestFactory.setConnectionRequestTimeout((int) pool.getConnectionRequestTimeout().toMillis());
+        requestFactory.setReadTimeout((int) pool.getReadTimeout().toMillis());
+
+        return requestFactory;
     }
 
 }
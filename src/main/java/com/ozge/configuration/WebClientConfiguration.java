@@ -0,0 +1,54 @@
+package com.ozge.configuration;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.ozge.configuration.http.EndpointRoutingClientHttpConnector;
+import com.ozge.configuration.http.PooledClientHttpConnector;
+import com.ozge.configuration.properties.ClientServiceProperties;
+import com.ozge.configuration.properties.ConnectionPool;
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.configuration.properties.UserServiceProperties;
+
+/**
+ * The non-blocking upstream client of the reactive services. These call the upstream
+ * directly, so /refunds/report, /client and /user/* give up the blocking layers beneath
+ * the other services in this mode: the report bucket cache with its rollup and
+ * single-flight fetches, the client response cache, the token cache and the upstream
+ * bulkheads. The response bytes cache in front of the controllers is kept, and the other
+ * endpoints keep every layer.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "services", name = "mode", havingValue = "reactive")
+public class WebClientConfiguration {
+
+    private final Logger log = LoggerFactory.getLogger(WebClientConfiguration.class);
+
+    @PostConstruct
+    public void warnOfBypassedLayers() {
+        log.warn("Reactive services mode -> /refunds/report, /client and /user calls bypass the report bucket cache, rollup, client response cache, token cache and bulkheads");
+    }
+
+    @Bean
+    public EndpointRoutingClientHttpConnector clientHttpConnector(UserServiceProperties userServiceProperties,
+                                                                  ClientServiceProperties clientServiceProperties,
+                                                                  ReportServiceProperties reportServiceProperties) {
+        return new EndpointRoutingClientHttpConnector(new PooledClientHttpConnector("upstream", new ConnectionPool()))
+                .register(userServiceProperties.getLogin().getUrl(), new PooledClientHttpConnector("upstream-login", userServiceProperties.getLogin().getPool()))
+                .register(userServiceProperties.getInfo().getUrl(), new PooledClientHttpConnector("upstream-info", userServiceProperties.getInfo().getPool()))
+                .register(clientServiceProperties.getUrl(), new PooledClientHttpConnector("upstream-client", clientServiceProperties.getPool()))
+                .register(reportServiceProperties.getUrl(), new PooledClientHttpConnector("upstream-report", reportServiceProperties.getPool()));
+    }
+
+    @Bean
+    public WebClient webClient(WebClient.Builder builder, EndpointRoutingClientHttpConnector clientHttpConnector) {
+        return builder.clientConnector(clientHttpConnector).build();
+    }
+
+}
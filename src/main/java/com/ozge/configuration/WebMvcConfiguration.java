@@ -0,0 +1,121 @@
+package com.ozge.configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozge.configuration.http.ContentLengthJackson2HttpMessageConverter;
+import com.ozge.configuration.http.RefundReportCsvHttpMessageConverter;
+import com.ozge.configuration.http.StreamingResponseBodyHttpMessageConverter;
+import com.ozge.configuration.properties.ReportServiceProperties;
+
+@Configuration
+public class WebMvcConfiguration implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    private final ApplicationContext applicationContext;
+
+    private final List<Jackson2ObjectMapperBuilderCustomizer> customizers;
+
+    private final AsyncTaskExecutor streamExecutor;
+
+    private final Duration asyncTimeout;
+
+    @Autowired
+    public WebMvcConfiguration(ObjectMapper objectMapper, ApplicationContext applicationContext,
+                               List<Jackson2ObjectMapperBuilderCustomizer> customizers,
+                               @Qualifier("reportStreamExecutor") AsyncTaskExecutor streamExecutor,
+                               ReportServiceProperties properties) {
+        this.objectMapper = objectMapper;
+        this.applicationContext = applicationContext;
+        this.customizers = customizers;
+        this.streamExecutor = streamExecutor;
+        // the longest report timeout, so that each report times out by its own
+        asyncTimeout = Collections.max(Arrays.asList(properties.getAggregate().getTimeout(),
+                properties.getSeries().getTimeout(), properties.getTop().getTimeout()));
+    }
+
+    /**
+     * Streams run on a bounded executor, so that a saturated one refuses further streams
+     * with 503 instead of starting a thread for each.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamExecutor);
+        configurer.setDefaultTimeout(asyncTimeout.toMillis());
+    }
+
+    /**
+     * Replaces the default Jackson converters in place, so that JSON keeps its place ahead
+     * of Smile and CBOR. JSON bodies are sent with their length, so that the ones below the
+     * compression threshold go out as they are, and the binary formats get the mapper
+     * settings of JSON instead of the Jackson defaults. Streaming bodies come first, as
+     * Jackson would take them for beans.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        replace(converters, MappingJackson2HttpMessageConverter.class, new ContentLengthJackson2HttpMessageConverter(objectMapper));
+        replace(converters, MappingJackson2SmileHttpMessageConverter.class,
+                new MappingJackson2SmileHttpMessageConverter(customized(Jackson2ObjectMapperBuilder.smile())));
+        replace(converters, MappingJackson2CborHttpMessageConverter.class,
+                new MappingJackson2CborHttpMessageConverter(customized(Jackson2ObjectMapperBuilder.cbor())));
+
+        converters.add(0, new StreamingResponseBodyHttpMessageConverter());
+        // last, so that JSON stays the answer of clients accepting anything
+        converters.add(new RefundReportCsvHttpMessageConverter());
+    }
+
+    /**
+     * A mapper of its own, configured like the JSON one, leaving the shared builder as it is.
+     */
+    private ObjectMapper customized(Jackson2ObjectMapperBuilder builder) {
+        builder.applicationContext(applicationContext);
+        customizers.forEach(customizer -> customizer.customize(builder));
+        return builder.build();
+    }
+
+    /**
+     * Puts the converter in place of the first converter of exactly the given type, and
+     * drops the others of that type.
+     */
+    private static void replace(List<HttpMessageConverter<?>> converters, Class<?> type, HttpMessageConverter<?> converter) {
+
+        boolean replaced = false;
+
+        for (ListIterator<HttpMessageConverter<?>> iterator = converters.listIterator(); iterator.hasNext(); ) {
+            if (iterator.next().getClass() != type) {
+                continue;
+            }
+            if (replaced) {
+                iterator.remove();
+            } else {
+                iterator.set(converter);
+                replaced = true;
+            }
+        }
+
+        if (!replaced) {
+            converters.add(converter);
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.ozge.configuration.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes JSON like its parent, but encodes it in full first and sends it with its
+ * Content-Length. Without it the parent flushes the response before its length is known,
+ * and the server then compresses even bodies below the compression threshold.
+ */
+public class ContentLengthJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+	public ContentLengthJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+		super(objectMapper);
+	}
+
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+			throws IOException, HttpMessageNotWritableException {
+
+		ByteArrayOutputStream body = new ByteArrayOutputStream(512);
+
+		super.writeInternal(object, type, new HttpOutputMessage() {
+
+			@Override
+			public OutputStream getBody() {
+				return body;
+			}
+
+			@Override
+			public HttpHeaders getHeaders() {
+				return outputMessage.getHeaders();
+			}
+
+		});
+
+		outputMessage.getHeaders().setContentLength(body.size());
+		body.writeTo(outputMessage.getBody());
+
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.ozge.configuration.http;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link EndpointRoutingClientHttpRequestFactory}: connects every
+ * request through the connector registered for its endpoint (scheme, authority and path),
+ * so that a slow upstream endpoint cannot exhaust the connections of the others.
+ * Unregistered endpoints use the default connector.
+ */
+public class EndpointRoutingClientHttpConnector implements ClientHttpConnector, DisposableBean {
+
+	private final Map<String, ClientHttpConnector> connectors = new LinkedHashMap<>();
+
+	private final ClientHttpConnector defaultConnector;
+
+	public EndpointRoutingClientHttpConnector(ClientHttpConnector defaultConnector) {
+		this.defaultConnector = defaultConnector;
+	}
+
+	public EndpointRoutingClientHttpConnector register(String url, ClientHttpConnector connector) {
+		connectors.put(endpoint(URI.create(url)), connector);
+		return this;
+	}
+
+	@Override
+	public Mono<ClientHttpResponse> connect(HttpMethod method, URI uri,
+			Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+		return connectors.getOrDefault(endpoint(uri), defaultConnector).connect(method, uri, requestCallback);
+	}
+
+	@Override
+	public void destroy() {
+		connectors.values().forEach(EndpointRoutingClientHttpConnector::dispose);
+		dispose(defaultConnector);
+	}
+
+	private static void dispose(ClientHttpConnector connector) {
+		if (connector instanceof Disposable) {
+			((Disposable) connector).dispose();
+		}
+	}
+
+	private static String endpoint(URI uri) {
+		return uri.getScheme() + "://" + uri.getRawAuthority() + uri.getRawPath();
+	}
+
+}
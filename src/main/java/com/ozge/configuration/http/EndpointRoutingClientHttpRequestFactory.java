@@ -0,0 +1,56 @@
+package com.ozge.configuration.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+/**
+ * Dispatches every request to the connection pool registered for its endpoint
+ * (scheme, authority and path), so that a slow upstream endpoint cannot exhaust
+ * the connections of the others. Unregistered endpoints use the default pool.
+ */
+public class EndpointRoutingClientHttpRequestFactory implements ClientHttpRequestFactory, DisposableBean {
+
+	private final Map<String, ClientHttpRequestFactory> factories = new LinkedHashMap<>();
+
+	private final ClientHttpRequestFactory defaultFactory;
+
+	public EndpointRoutingClientHttpRequestFactory(ClientHttpRequestFactory defaultFactory) {
+		this.defaultFactory = defaultFactory;
+	}
+
+	public EndpointRoutingClientHttpRequestFactory register(String url, ClientHttpRequestFactory factory) {
+		factories.put(endpoint(URI.create(url)), factory);
+		return this;
+	}
+
+	@Override
+	public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+		return factories.getOrDefault(endpoint(uri), defaultFactory).createRequest(uri, httpMethod);
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		for (ClientHttpRequestFactory factory : factories.values()) {
+			destroy(factory);
+		}
+		destroy(defaultFactory);
+	}
+
+	private static void destroy(ClientHttpRequestFactory factory) throws Exception {
+		if (factory instanceof DisposableBean) {
+			((DisposableBean) factory).destroy();
+		}
+	}
+
+	private static String endpoint(URI uri) {
+		return uri.getScheme() + "://" + uri.getRawAuthority() + uri.getRawPath();
+	}
+
+}
@@ -0,0 +1,53 @@
+package com.ozge.configuration.http;
+
+import java.net.URI;
+import java.util.function.Function;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+
+import com.ozge.configuration.properties.ConnectionPool;
+
+import io.netty.channel.ChannelOption;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.ipc.netty.resources.PoolResources;
+
+/**
+ * Reactor Netty connector with a connection pool, connect timeout and compression of its
+ * own, released once the connector is disposed.
+ */
+public class PooledClientHttpConnector implements ClientHttpConnector, Disposable {
+
+	private final PoolResources poolResources;
+
+	private final ClientHttpConnector connector;
+
+	public PooledClientHttpConnector(String name, ConnectionPool pool) {
+		poolResources = PoolResources.fixed(name, pool.getMaxConnections());
+		connector = new ReactorClientHttpConnector(options -> options
+				.poolResources(poolResources)
+				.compression(pool.isCompression())
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.getConnectTimeout().toMillis()));
+	}
+
+	@Override
+	public Mono<ClientHttpResponse> connect(HttpMethod method, URI uri,
+			Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+		return connector.connect(method, uri, requestCallback);
+	}
+
+	@Override
+	public void dispose() {
+		poolResources.dispose();
+	}
+
+	@Override
+	public boolean isDisposed() {
+		return poolResources.isDisposed();
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.ozge.configuration.http;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.ozge.model.error.BaseError;
+import com.ozge.model.error.ErrorResponse;
+import com.ozge.model.response.RefundReport;
+import com.ozge.model.response.RefundReportResponse;
+import com.ozge.util.CsvWriter;
+
+/**
+ * Writes refund reports as text/csv, one row per currency, and errors as one row per
+ * message so that CSV clients are told why a report is missing. Write only.
+ */
+public class RefundReportCsvHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+	public static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+	public RefundReportCsvHttpMessageConverter() {
+		super(TEXT_CSV);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return RefundReportResponse.class.isAssignableFrom(clazz) || ErrorResponse.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	protected boolean canRead(MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("CSV cannot be read");
+	}
+
+	@Override
+	protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+
+		CsvWriter csvWriter = new CsvWriter(new BufferedWriter(new OutputStreamWriter(outputMessage.getBody(), StandardCharsets.UTF_8)));
+
+		if (object instanceof ErrorResponse) {
+			csvWriter.field("error").endRow();
+			if (Objects.nonNull(((ErrorResponse) object).getErrors())) {
+				for (BaseError error : ((ErrorResponse) object).getErrors()) {
+					csvWriter.field(error.getMessage()).endRow();
+				}
+			}
+			csvWriter.flush();
+			return;
+		}
+
+		RefundReportResponse refundReportResponse = (RefundReportResponse) object;
+		csvWriter.field("status").field("currency").field("count").field("total").endRow();
+
+		if (Objects.nonNull(refundReportResponse.getRefundReports())) {
+			for (RefundReport refundReport : refundReportResponse.getRefundReports()) {
+				csvWriter.field(refundReportResponse.getStatus())
+						.field(refundReport.getCurrency())
+						.field(Objects.isNull(refundReport.getCount()) ? 0 : refundReport.getCount())
+						.field(Objects.isNull(refundReport.getTotal()) ? 0L : refundReport.getTotal())
+						.endRow();
+			}
+		}
+
+		csvWriter.flush();
+
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.ozge.configuration.http;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Writes a {@link StreamingResponseBody} answered in a {@link org.springframework.http.ResponseEntity}
+ * of a reactive handler, whose body type is not known until it completes, to the response
+ * as it is, keeping the content type of the entity. Write only.
+ */
+public class StreamingResponseBodyHttpMessageConverter extends AbstractHttpMessageConverter<StreamingResponseBody> {
+
+	public StreamingResponseBodyHttpMessageConverter() {
+		super(MediaType.ALL);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return StreamingResponseBody.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	protected boolean canRead(MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected StreamingResponseBody readInternal(Class<? extends StreamingResponseBody> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("Streaming bodies cannot be read");
+	}
+
+	@Override
+	protected void writeInternal(StreamingResponseBody body, HttpOutputMessage outputMessage) throws IOException {
+		body.writeTo(outputMessage.getBody());
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.ozge.configuration.properties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the multi-merchant refund report aggregation.
+ */
+public class Aggregate {
+
+	/**
+	 * Most merchant and acquirer combinations one aggregation may query.
+	 */
+	private int maxQueries = 500;
+
+	/**
+	 * Most combinations of one aggregation queried at the same time.
+	 */
+	private int maxParallelism = 8;
+
+	/**
+	 * Threads shared by the queries of all aggregations, rankings and comparisons.
+	 */
+	private int threads = 16;
+
+	private int queueCapacity = 512;
+
+	private Duration timeout = Duration.ofMinutes(2);
+
+	public Aggregate() {
+		super();
+	}
+
+	public int getMaxQueries() {
+		return maxQueries;
+	}
+
+	public void setMaxQueries(int maxQueries) {
+		this.maxQueries = maxQueries;
+	}
+
+	public int getMaxParallelism() {
+		return maxParallelism;
+	}
+
+	public void setMaxParallelism(int maxParallelism) {
+		this.maxParallelism = maxParallelism;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	public void setTimeout(Duration timeout) {
+		this.timeout = timeout;
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.ozge.configuration.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "authorization")
+public class AuthorizationProperties {
+
+	private boolean enabled = true;
+
+	/**
+	 * Lifetime assumed from the token's timestamp claim when it carries no exp claim.
+	 */
+	private Duration tokenLifetime = Duration.ofMinutes(10);
+
+	/**
+	 * Tolerated difference between our clock and the clock of the token issuer.
+	 */
+	private Duration clockSkew = Duration.ofSeconds(30);
+
+	private int maxCachedTokens = 10_000;
+
+	/**
+	 * Role the token must claim to reach the /admin endpoints.
+	 */
+	private String adminRole = "admin";
+
+	public AuthorizationProperties() {
+		super();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Duration getTokenLifetime() {
+		return tokenLifetime;
+	}
+
+	public void setTokenLifetime(Duration tokenLifetime) {
+		this.tokenLifetime = tokenLifetime;
+	}
+
+	public Duration getClockSkew() {
+		return clockSkew;
+	}
+
+	public void setClockSkew(Duration clockSkew) {
+		this.clockSkew = clockSkew;
+	}
+
+	public int getMaxCachedTokens() {
+		return maxCachedTokens;
+	}
+
+	public void setMaxCachedTokens(int maxCachedTokens) {
+		this.maxCachedTokens = maxCachedTokens;
+	}
+
+	public String getAdminRole() {
+		return adminRole;
+	}
+
+	public void setAdminRole(String adminRole) {
+		this.adminRole = adminRole;
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.ozge.configuration.properties;
+
+import java.time.Duration;
+
+/**
+ * Settings of batched client information lookups.
+ */
+public class Batch {
+
+	/**
+	 * Most lookups of one batch running at the same time.
+	 */
+	private int concurrency = 8;
+
+	private int maxItems = 1_000;
+
+	/**
+	 * Threads shared by the lookups of all batches.
+	 */
+	private int threads = 32;
+
+	private int queueCapacity = 512;
+
+	private Duration timeout = Duration.ofMinutes(5);
+
+	public Batch() {
+		super();
+	}
+
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	public void setConcurrency(int concurrency) {
+		this.concurrency = concurrency;
+	}
+
+	public int getMaxItems() {
+		return maxItems;
+	}
+
+	public void setMaxItems(int maxItems) {
+		this.maxItems = maxItems;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	public void setTimeout(Duration timeout) {
+		this.timeout = timeout;
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.ozge.configuration.properties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the date-bucket cache of refund reports.
+ */
+public class BucketCache {
+
+	private boolean enabled = true;
+
+	private int maxEntries = 100_000;
+
+	private int maxBucketFetches = 40;
+
+	/**
+	 * Time to live of buckets whose last day is over, zero for no expiry.
+	 */
+	private Duration closedTtl = Duration.ZERO;
+
+	/**
+	 * Time to live of the bucket that contains today.
+	 */
+	private Duration openTtl = Duration.ofMinutes(1);
+
+	public BucketCache() {
+		super();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	public void setMaxEntries(int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+
+	public int getMaxBucketFetches() {
+		return maxBucketFetches;
+	}
+
+	public void setMaxBucketFetches(int maxBucketFetches) {
+		this.maxBucketFetches = maxBucketFetches;
+	}
+
+	public Duration getClosedTtl() {
+		return closedTtl;
+	}
+
+	public void setClosedTtl(Duration closedTtl) {
+		this.closedTtl = closedTtl;
+	}
+
+	public Duration getOpenTtl() {
+		return openTtl;
+	}
+
+	public void setOpenTtl(Duration openTtl) {
+		this.openTtl = openTtl;
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.ozge.configuration.properties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the permits isolating the calls to a single upstream endpoint.
+ */
+public class Bulkhead {
+
+	private boolean enabled = true;
+
+	/**
+	 * Most calls in progress at once; calls beyond wait in the queue.
+	 */
+	private int maxConcurrentCalls = 40;
+
+	/**
+	 * Most calls waiting for a permit at once; any call beyond fails at once.
+	 */
+	private int queueCapacity = 20;
+
+	/**
+	 * Longest a queued call waits for a permit before it fails.
+	 */
+	private Duration maxWait = Duration.ofMillis(500);
+
+	public Bulkhead() {
+		super();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getMaxConcurrentCalls() {
+		return maxConcurrentCalls;
+	}
+
+	public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+		this.maxConcurrentCalls = maxConcurrentCalls;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	public Duration getMaxWait() {
+		return maxWait;
+	}
+
+	public void setMaxWait(Duration maxWait) {
+		this.maxWait = maxWait;
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.ozge.configuration.properties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the cache of client responses per transaction.
+ */
+public class ClientCache {
+
+	private boolean enabled = true;
+
+	/**
+	 * Bound of the estimated heap size of cached responses.
+	 */
+	private long maxBytes = 64L * 1024 * 1024;
+
+	private Duration ttl = Duration.ofMinutes(10);
+
+	/**
+	 * Time to live of transactions the upstream has no customer information for.
+	 */
+	private Duration negativeTtl = Duration.ofSeconds(30);
+
+	public ClientCache() {
+		super();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	public void setMaxBytes(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	public Duration getTtl() {
+		return ttl;
+	}
+
+	public void setTtl(Duration ttl) {
+		this.ttl = ttl;
+	}
+
+	public Duration getNegativeTtl() {
+		return negativeTtl;
+	}
+
+	public void setNegativeTtl(Duration negativeTtl) {
+		this.negativeTtl = negativeTtl;
+	}
+
+}
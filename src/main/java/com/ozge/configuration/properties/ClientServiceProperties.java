@@ -9,6 +9,16 @@ public class ClientServiceProperties {
 
 	String url;
 
+	private ConnectionPool pool = new ConnectionPool();
+
+	private Bulkhead bulkhead = new Bulkhead();
+
+	private Coalescing coalescing = new Coalescing();
+
+	private ClientCache cache = new ClientCache();
+
+	private Batch batch = new Batch();
+
 	public ClientServiceProperties() {
 		super();
 	}
@@ -26,4 +36,44 @@ public class ClientServiceProperties {
 		this.url = url;
 	}
 
+	public ConnectionPool getPool() {
+		return pool;
+	}
+
+	public void setPool(ConnectionPool pool) {
+		this.pool = pool;
+	}
+
+	public Bulkhead getBulkhead() {
+		return bulkhead;
+	}
+
+	public void setBulkhead(Bulkhead bulkhead) {
+		this.bulkhead = bulkhead;
+	}
+
+	public Coalescing getCoalescing() {
+		return coalescing;
+	}
+
+	public void setCoalescing(Coalescing coalescing) {
+		this.coalescing = coalescing;
+	}
+
+	public ClientCache getCache() {
+		return cache;
+	}
+
+	public void setCache(ClientCache cache) {
+		this.cache = cache;
+	}
+
+	public Batch getBatch() {
+		return batch;
+	}
+
+	public void setBatch(Batch batch) {
+		this.batch = batch;
+	}
+
 }
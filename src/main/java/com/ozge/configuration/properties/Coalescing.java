@@ -0,0 +1,45 @@
+package com.ozge.configuration.properties;
+
+/**
+ * Settings of the sharing of identical in-flight upstream calls.
+ */
+public class Coalescing {
+
+	private boolean enabled = true;
+
+	/**
+	 * Most distinct calls tracked at once, beyond which calls run uncoalesced.
+	 */
+	private int maxInFlight = 1_024;
+
+	private int stripes = 16;
+
+	public Coalescing() {
+		super();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	public void setMaxInFlight(int maxInFlight) {
+		this.maxInFlight = maxInFlight;
+	}
+
+	public int getStripes() {
+		return stripes;
+	}
+
+	public void setStripes(int stripes) {
+		this.stripes = stripes;
+	}
+
+}
@@ -0,0 +1,89 @@
+package com.ozge.configuration.properties;
+
+import java.time.Duration;
+
+/**
+ * Connection pool settings of a single upstream endpoint.
+ */
+public class ConnectionPool {
+
+	private int maxConnections = 20;
+
+	private Duration keepAlive = Duration.ofSeconds(30);
+
+	private Duration idleEviction = Duration.ofSeconds(60);
+
+	private Duration connectTimeout = Duration.ofSeconds(5);
+
+	private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+
+	private Duration readTimeout = Duration.ofSeconds(30);
+
+	/**
+	 * Whether gzip and deflate are offered in Accept-Encoding and compressed responses are
+	 * decoded. There is no size threshold on this leg: the size of an answer is not known
+	 * when asking for it, so whether it is worth compressing is left to the upstream.
+	 */
+	private boolean compression = true;
+
+	public ConnectionPool() {
+		super();
+	}
+
+	public int getMaxConnections() {
+		return maxConnections;
+	}
+
+	public void setMaxConnections(int maxConnections) {
+		this.maxConnections = maxConnections;
+	}
+
+	public Duration getKeepAlive() {
+		return keepAlive;
+	}
+
+	public void setKeepAlive(Duration keepAlive) {
+		this.keepAlive = keepAlive;
+	}
+
+	public Duration getIdleEviction() {
+		return idleEviction;
+	}
+
+	public void setIdleEviction(Duration idleEviction) {
+		this.idleEviction = idleEviction;
+	}
+
+	public Duration getConnectTimeout() {
+		return connectTimeout;
+	}
+
+	public void setConnectTimeout(Duration connectTimeout) {
+		this.connectTimeout = connectTimeout;
+	}
+
+	public Duration getConnectionRequestTimeout() {
+		return connectionRequestTimeout;
+	}
+
+	public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+		this.connectionRequestTimeout = connectionRequestTimeout;
+	}
+
+	public Duration getReadTimeout() {
+		return readTimeout;
+	}
+
+	public void setReadTimeout(Duration readTimeout) {
+		this.readTimeout = readTimeout;
+	}
+
+	public boolean isCompression() {
+		return compression;
+	}
+
+	public void setCompression(boolean compression) {
+		this.compression = compression;
+	}
+
+}
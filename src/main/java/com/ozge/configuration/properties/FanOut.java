@@ -0,0 +1,71 @@
+package com.ozge.configuration.properties;
+
+/**
+ * Settings of the parallel fetching of long refund report ranges.
+ */
+public class FanOut {
+
+	private boolean enabled = true;
+
+	/**
+	 * Days per upstream call; longer ranges are split into sub-ranges of this size.
+	 */
+	private int splitDays = 92;
+
+	/**
+	 * Most sub-ranges of one request fetched at the same time.
+	 */
+	private int maxParallelism = 4;
+
+	/**
+	 * Threads shared by the sub-range fetches of all requests.
+	 */
+	private int threads = 16;
+
+	private int queueCapacity = 256;
+
+	public FanOut() {
+		super();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getSplitDays() {
+		return splitDays;
+	}
+
+	public void setSplitDays(int splitDays) {
+		this.splitDays = splitDays;
+	}
+
+	public int getMaxParallelism() {
+		return maxParallelism;
+	}
+
+	public void setMaxParallelism(int maxParallelism) {
+		this.maxParallelism = maxParallelism;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.ozge.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of relaying upstream JSON bodies to the client as they are, instead of reading
+ * them into the response models and writing them back.
+ */
+@Component
+@ConfigurationProperties(prefix = "pass-through")
+public class PassThroughProperties {
+
+	/**
+	 * Relays refunds reports; the bucket cache and the fan-out are then skipped, and JSON
+	 * answers are neither kept in the response cache nor tagged, so If-None-Match is not
+	 * answered with 304 Not Modified.
+	 */
+	private boolean report = false;
+
+	/**
+	 * Relays merchant user information.
+	 */
+	private boolean userInfo = false;
+
+	private int bufferSize = 8192;
+
+	/**
+	 * Most idle copy buffers kept for reuse; busier moments allocate and drop extra ones.
+	 */
+	private int maxPooledBuffers = 64;
+
+	public PassThroughProperties() {
+		super();
+	}
+
+	public boolean isReport() {
+		return report;
+	}
+
+	public void setReport(boolean report) {
+		this.report = report;
+	}
+
+	public boolean isUserInfo() {
+		return userInfo;
+	}
+
+	public void setUserInfo(boolean userInfo) {
+		this.userInfo = userInfo;
+	}
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	public void setBufferSize(int bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	public int getMaxPooledBuffers() {
+		return maxPooledBuffers;
+	}
+
+	public void setMaxPooledBuffers(int maxPooledBuffers) {
+		this.maxPooledBuffers = maxPooledBuffers;
+	}
+
+}
@@ -4,6 +4,10 @@ public class Path {
 
 	private String url;
 
+	private ConnectionPool pool = new ConnectionPool();
+
+	private Bulkhead bulkhead = new Bulkhead();
+
 	public Path() {
 		super();
 	}
@@ -20,4 +24,20 @@ public class Path {
 	public void setUrl(String url) {
 		this.url = url;
 	}
+
+	public ConnectionPool getPool() {
+		return pool;
+	}
+
+	public void setPool(ConnectionPool pool) {
+		this.pool = pool;
+	}
+
+	public Bulkhead getBulkhead() {
+		return bulkhead;
+	}
+
+	public void setBulkhead(Bulkhead bulkhead) {
+		this.bulkhead = bulkhead;
+	}
 }
@@ -0,0 +1,100 @@
+package com.ozge.configuration.properties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of the background refresh of recent refund days.
+ */
+public class Refresh {
+
+	private boolean enabled = false;
+
+	/**
+	 * Delay between handing one refresh round over to the executor and the start of the
+	 * next. Rounds do not wait for their jobs, so a job still running when the next round
+	 * starts is skipped by it.
+	 */
+	private Duration interval = Duration.ofMinutes(5);
+
+	/**
+	 * Closed days before today that are fetched again every round.
+	 */
+	private int trailingDays = 2;
+
+	/**
+	 * Most jobs refreshed at the same time.
+	 */
+	private int maxConcurrency = 2;
+
+	/**
+	 * Credentials of the account the refresh logs in with.
+	 */
+	private String email;
+
+	private String password;
+
+	private List<RefreshJob> jobs = new ArrayList<>();
+
+	public Refresh() {
+		super();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Duration getInterval() {
+		return interval;
+	}
+
+	public void setInterval(Duration interval) {
+		this.interval = interval;
+	}
+
+	public int getTrailingDays() {
+		return trailingDays;
+	}
+
+	public void setTrailingDays(int trailingDays) {
+		this.trailingDays = trailingDays;
+	}
+
+	public int getMaxConcurrency() {
+		return maxConcurrency;
+	}
+
+	public void setMaxConcurrency(int maxConcurrency) {
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public String getPassword() {
+		return password;
+	}
+
+	public void setPassword(String password) {
+		this.password = password;
+	}
+
+	public List<RefreshJob> getJobs() {
+		return jobs;
+	}
+
+	public void setJobs(List<RefreshJob> jobs) {
+		this.jobs = jobs;
+	}
+
+}
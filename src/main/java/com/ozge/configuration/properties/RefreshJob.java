@@ -0,0 +1,39 @@
+package com.ozge.configuration.properties;
+
+/**
+ * A (merchant, acquirer) pair whose recent refunds are kept current in the background;
+ * a missing merchant or acquirer stands for all of them.
+ */
+public class RefreshJob {
+
+	private Integer merchant;
+
+	private Integer acquirer;
+
+	public RefreshJob() {
+		super();
+	}
+
+	public RefreshJob(Integer merchant, Integer acquirer) {
+		super();
+		this.merchant = merchant;
+		this.acquirer = acquirer;
+	}
+
+	public Integer getMerchant() {
+		return merchant;
+	}
+
+	public void setMerchant(Integer merchant) {
+		this.merchant = merchant;
+	}
+
+	public Integer getAcquirer() {
+		return acquirer;
+	}
+
+	public void setAcquirer(Integer acquirer) {
+		this.acquirer = acquirer;
+	}
+
+}
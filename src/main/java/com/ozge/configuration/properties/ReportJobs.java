@@ -0,0 +1,79 @@
+package com.ozge.configuration.properties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the asynchronous refund report jobs.
+ */
+public class ReportJobs {
+
+	/**
+	 * Jobs running at the same time.
+	 */
+	private int threads = 2;
+
+	/**
+	 * Jobs waiting for a thread; submissions beyond it are rejected.
+	 */
+	private int queueCapacity = 16;
+
+	/**
+	 * Most jobs, running or finished, held in memory.
+	 */
+	private int maxJobs = 1000;
+
+	/**
+	 * How long the result of a finished job can be fetched.
+	 */
+	private Duration resultTtl = Duration.ofMinutes(10);
+
+	/**
+	 * Delay between two evictions of jobs whose result expired.
+	 */
+	private Duration evictionInterval = Duration.ofMinutes(1);
+
+	public ReportJobs() {
+		super();
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	public int getMaxJobs() {
+		return maxJobs;
+	}
+
+	public void setMaxJobs(int maxJobs) {
+		this.maxJobs = maxJobs;
+	}
+
+	public Duration getResultTtl() {
+		return resultTtl;
+	}
+
+	public void setResultTtl(Duration resultTtl) {
+		this.resultTtl = resultTtl;
+	}
+
+	public Duration getEvictionInterval() {
+		return evictionInterval;
+	}
+
+	public void setEvictionInterval(Duration evictionInterval) {
+		this.evictionInterval = evictionInterval;
+	}
+
+}
@@ -8,6 +8,26 @@ import org.springframework.stereotype.Component;
 public class ReportServiceProperties {
 
     String url;
+
+    private ConnectionPool pool = new ConnectionPool();
+
+    private Bulkhead bulkhead = new Bulkhead();
+
+    private BucketCache cache = new BucketCache();
+
+    private FanOut fanOut = new FanOut();
+
+    private Aggregate aggregate = new Aggregate();
+
+    private Series series = new Series();
+
+    private Top top = new Top();
+
+    private Rollup rollup = new Rollup();
+
+    private Refresh refresh = new Refresh();
+
+    private ReportJobs jobs = new ReportJobs();
     
     public ReportServiceProperties() {
 		super();
@@ -25,4 +45,84 @@ public class ReportServiceProperties {
 	public void setUrl(String url) {
 		this.url = url;
 	}
-}
+
+	public ConnectionPool getPool() {
+		return pool;
+	}
+
+	public void setPool(ConnectionPool pool) {
+		this.pool = pool;
+	}
+
+	public Bulkhead getBulkhead() {
+		return bulkhead;
+	}
+
+	public void setBulkhead(Bulkhead bulkhead) {
+		this.bulkhead = bulkhead;
+	}
+
+	public BucketCache getCache() {
+		return cache;
+	}
+
+	public void setCache(BucketCache cache) {
+		this.cache = cache;
+	}
+
+	public FanOut getFanOut() {
+		return fanOut;
+	}
+
+	public void setFanOut(FanOut fanOut) {
+		this.fanOut = fanOut;
+	}
+
+	public Aggregate getAggregate() {
+		return aggregate;
+	}
+
+	public void setAggregate(Aggregate aggregate) {
+		this.aggregate = aggregate;
+	}
+
+	public Series getSeries() {
+		return series;
+	}
+
+	public void setSeries(Series series) {
+		this.series = series;
+	}
+
+	public Top getTop() {
+		return top;
+	}
+
+	public void setTop(Top top) {
+		this.top = top;
+	}
+
+	public Rollup getRollup() {
+		return rollup;
+	}
+
+	public void setRollup(Rollup rollup) {
+		this.rollup = rollup;
+	}
+
+	public Refresh getRefresh() {
+		return refresh;
+	}
+
+	public void setRefresh(Refresh refresh) {
+		this.refresh = refresh;
+	}
+
+	public ReportJobs getJobs() {
+		return jobs;
+	}
+
+	public void setJobs(ReportJobs jobs) {
+		this.jobs = jobs;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.ozge.configuration.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the cache of encoded JSON response bodies, which answers repeated client
+ * and refunds report requests without the services or Jackson.
+ */
+@Component
+@ConfigurationProperties(prefix = "response-cache")
+public class ResponseCacheProperties {
+
+	private boolean enabled = true;
+
+	/**
+	 * Bound of the cached bodies and their gzip copies together.
+	 */
+	private long maxBytes = 32L * 1024 * 1024;
+
+	private Duration clientTtl = Duration.ofMinutes(10);
+
+	/**
+	 * Time to live of refunds report bodies; kept within the open bucket time to live, so
+	 * that a body never outlives the buckets it was built from.
+	 */
+	private Duration reportTtl = Duration.ofSeconds(60);
+
+	/**
+	 * Whether a gzip copy is kept next to every body worth compressing.
+	 */
+	private boolean precompress = true;
+
+	/**
+	 * Smallest body a gzip copy is kept for.
+	 */
+	private int minCompressBytes = 1024;
+
+	public ResponseCacheProperties() {
+		super();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	public void setMaxBytes(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	public Duration getClientTtl() {
+		return clientTtl;
+	}
+
+	public void setClientTtl(Duration clientTtl) {
+		this.clientTtl = clientTtl;
+	}
+
+	public Duration getReportTtl() {
+		return reportTtl;
+	}
+
+	public void setReportTtl(Duration reportTtl) {
+		this.reportTtl = reportTtl;
+	}
+
+	public boolean isPrecompress() {
+		return precompress;
+	}
+
+	public void setPrecompress(boolean precompress) {
+		this.precompress = precompress;
+	}
+
+	public int getMinCompressBytes() {
+		return minCompressBytes;
+	}
+
+	public void setMinCompressBytes(int minCompressBytes) {
+		this.minCompressBytes = minCompressBytes;
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.ozge.configuration.properties;
+
+/**
+ * Settings of the persistent store of closed-day refund reports.
+ */
+public class Rollup {
+
+	private boolean enabled = false;
+
+	/**
+	 * Segment file the store appends to and replays at startup; required once enabled, as
+	 * there is no place to write it that suits every deployment.
+	 */
+	private String file;
+
+	/**
+	 * Size of the segment file; it is compacted once full.
+	 */
+	private long maxBytes = 64L * 1024 * 1024;
+
+	public Rollup() {
+		super();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public String getFile() {
+		return file;
+	}
+
+	public void setFile(String file) {
+		this.file = file;
+	}
+
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	public void setMaxBytes(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+}
@@ -0,0 +1,109 @@
+package com.ozge.configuration.properties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the refund time series built from day and month buckets.
+ */
+public class Series {
+
+	/**
+	 * Longest range one series may span.
+	 */
+	private int maxDays = 1100;
+
+	/**
+	 * Most buckets of one series fetched from the upstream at the same time.
+	 */
+	private int maxParallelism = 8;
+
+	/**
+	 * Threads shared by the fetches of all series.
+	 */
+	private int threads = 16;
+
+	private int queueCapacity = 256;
+
+	/**
+	 * Threads writing streamed series to their clients, one per stream.
+	 */
+	private int streamThreads = 8;
+
+	private int streamQueueCapacity = 16;
+
+	/**
+	 * Days of a streamed series resolved and held at a time, rounded up to whole periods.
+	 */
+	private int windowDays = 32;
+
+	private Duration timeout = Duration.ofMinutes(2);
+
+	public Series() {
+		super();
+	}
+
+	public int getMaxDays() {
+		return maxDays;
+	}
+
+	public void setMaxDays(int maxDays) {
+		this.maxDays = maxDays;
+	}
+
+	public int getMaxParallelism() {
+		return maxParallelism;
+	}
+
+	public void setMaxParallelism(int maxParallelism) {
+		this.maxParallelism = maxParallelism;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	public int getStreamThreads() {
+		return streamThreads;
+	}
+
+	public void setStreamThreads(int streamThreads) {
+		this.streamThreads = streamThreads;
+	}
+
+	public int getStreamQueueCapacity() {
+		return streamQueueCapacity;
+	}
+
+	public void setStreamQueueCapacity(int streamQueueCapacity) {
+		this.streamQueueCapacity = streamQueueCapacity;
+	}
+
+	public int getWindowDays() {
+		return windowDays;
+	}
+
+	public void setWindowDays(int windowDays) {
+		this.windowDays = windowDays;
+	}
+
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	public void setTimeout(Duration timeout) {
+		this.timeout = timeout;
+	}
+
+}
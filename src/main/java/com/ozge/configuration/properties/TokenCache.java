@@ -0,0 +1,84 @@
+package com.ozge.configuration.properties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the cache of login tokens per credentials.
+ */
+public class TokenCache {
+
+	private boolean enabled = true;
+
+	private int maxEntries = 1_000;
+
+	/**
+	 * Lifetime assumed from the token's timestamp claim when it carries no exp claim.
+	 */
+	private Duration lifetime = Duration.ofMinutes(10);
+
+	/**
+	 * How long before expiry a cached token is renewed in the background.
+	 */
+	private Duration refreshAhead = Duration.ofMinutes(2);
+
+	private int refreshThreads = 1;
+
+	/**
+	 * Most renewals waiting for a refresh thread; a hit beyond leaves its token to be
+	 * renewed by a later hit.
+	 */
+	private int refreshQueueCapacity = 100;
+
+	public TokenCache() {
+		super();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	public void setMaxEntries(int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+
+	public Duration getLifetime() {
+		return lifetime;
+	}
+
+	public void setLifetime(Duration lifetime) {
+		this.lifetime = lifetime;
+	}
+
+	public Duration getRefreshAhead() {
+		return refreshAhead;
+	}
+
+	public void setRefreshAhead(Duration refreshAhead) {
+		this.refreshAhead = refreshAhead;
+	}
+
+	public int getRefreshThreads() {
+		return refreshThreads;
+	}
+
+	public void setRefreshThreads(int refreshThreads) {
+		this.refreshThreads = refreshThreads;
+	}
+
+	public int getRefreshQueueCapacity() {
+		return refreshQueueCapacity;
+	}
+
+	public void setRefreshQueueCapacity(int refreshQueueCapacity) {
+		this.refreshQueueCapacity = refreshQueueCapacity;
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.ozge.configuration.properties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the merchant refund rankings. Merchants are queried within the limits of
+ * the aggregation.
+ */
+public class Top {
+
+	/**
+	 * Most merchants one ranking may return.
+	 */
+	private int maxLimit = 100;
+
+	private Duration timeout = Duration.ofMinutes(2);
+
+	public Top() {
+		super();
+	}
+
+	public int getMaxLimit() {
+		return maxLimit;
+	}
+
+	public void setMaxLimit(int maxLimit) {
+		this.maxLimit = maxLimit;
+	}
+
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	public void setTimeout(Duration timeout) {
+		this.timeout = timeout;
+	}
+
+}
@@ -11,6 +11,8 @@ public class UserServiceProperties {
 
 	private Path info;
 
+	private TokenCache cache = new TokenCache();
+
 	public UserServiceProperties() {
 		super();
 	}
@@ -37,4 +39,12 @@ public class UserServiceProperties {
 		this.info = info;
 	}
 
+	public TokenCache getCache() {
+		return cache;
+	}
+
+	public void setCache(TokenCache cache) {
+		this.cache = cache;
+	}
+
 }
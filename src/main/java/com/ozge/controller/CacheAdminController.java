@@ -0,0 +1,86 @@
+package com.ozge.controller;
+
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ozge.cache.ClientResponseCache;
+import com.ozge.cache.RefundReportBucketCache;
+import com.ozge.cache.ResponseBytesCache;
+import com.ozge.model.error.ApiError;
+import com.ozge.model.error.ErrorResponse;
+import com.ozge.model.response.CacheExpiryResponse;
+
+@RestController
+public class CacheAdminController {
+
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	private final RefundReportBucketCache bucketCache;
+
+	private final ClientResponseCache clientCache;
+
+	private final ResponseBytesCache responseCache;
+
+	@Autowired
+	public CacheAdminController(RefundReportBucketCache bucketCache, ClientResponseCache clientCache,
+			ResponseBytesCache responseCache) {
+		this.bucketCache = bucketCache;
+		this.clientCache = clientCache;
+		this.responseCache = responseCache;
+	}
+
+	/**
+	 * Force-expires cached refund report buckets overlapping the range, e.g. after the
+	 * upstream restated data. Cached report bodies are all dropped, since any of them may
+	 * have been built from those buckets.
+	 * @param fromDate
+	 * @param toDate
+	 * @return
+	 */
+	@RequestMapping(method = RequestMethod.DELETE, path = "/admin/cache/refunds/report", produces = "application/json; charset=UTF-8")
+	public ResponseEntity expireRefundsReport(
+			@RequestParam("fromDate") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate fromDate,
+			@RequestParam("toDate") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate toDate) {
+
+		log.info("Refunds report cache expiry attempt -> ( fromDate : {} - toDate : {} )", fromDate, toDate);
+
+		if (fromDate.isAfter(toDate)) {
+			return new ResponseEntity<>(ErrorResponse.create(new ApiError("From Date cannot be after To Date")),
+					HttpStatus.BAD_REQUEST);
+		}
+
+		int expired = bucketCache.expire(fromDate, toDate);
+		responseCache.expire(ResponseBytesCache.Endpoint.REFUNDS_REPORT);
+
+		return new ResponseEntity<>(new CacheExpiryResponse(expired), HttpStatus.OK);
+
+	}
+
+	/**
+	 * Force-expires every cached client lookup and client body, e.g. after the upstream
+	 * corrected customer information. Client lookups have no date to narrow the expiry
+	 * down by, so they are all dropped.
+	 * @return
+	 */
+	@RequestMapping(method = RequestMethod.DELETE, path = "/admin/cache/client", produces = "application/json; charset=UTF-8")
+	public ResponseEntity expireClient() {
+
+		log.info("Client cache expiry attempt");
+
+		int expired = clientCache.expire() + responseCache.expire(ResponseBytesCache.Endpoint.CLIENT);
+
+		return new ResponseEntity<>(new CacheExpiryResponse(expired), HttpStatus.OK);
+
+	}
+
+}
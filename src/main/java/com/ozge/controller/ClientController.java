@@ -1,11 +1,24 @@
 package com.ozge.controller;
 
+import static com.ozge.util.ApiMediaTypes.APPLICATION_CBOR_VALUE;
+import static com.ozge.util.ApiMediaTypes.APPLICATION_JSON_UTF8_VALUE;
+import static com.ozge.util.ApiMediaTypes.APPLICATION_SMILE_VALUE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
 import javax.validation.Valid;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -13,44 +26,127 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
-import com.ozge.model.error.AuthorizationError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozge.cache.EncodedResponse;
+import com.ozge.cache.ResponseBytesCache;
+import com.ozge.configuration.properties.ClientServiceProperties;
+import com.ozge.exception.BatchTooLargeException;
 import com.ozge.model.error.ErrorResponse;
 import com.ozge.model.request.ClientRequest;
-import com.ozge.service.ClientService;
+import com.ozge.model.response.ClientBatchItem;
+import com.ozge.service.ClientBatchService;
+import com.ozge.service.ReactiveClientService;
+import com.ozge.util.HttpUtils;
+
+import reactor.core.publisher.Mono;
 
 @RestController
 public class ClientController {
 
     private final Logger log = LoggerFactory.getLogger(getClass());
 
-    private final ClientService clientService;
+    private static final MediaType APPLICATION_NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
+    private final ReactiveClientService clientService;
+
+    private final ClientBatchService clientBatchService;
+
+    private final ResponseBytesCache responseCache;
+
+    private final ObjectMapper objectMapper;
+
+    private final int maxBatchItems;
+
+    private final Duration batchTimeout;
 
     @Autowired
-    public ClientController(ClientService clientService) {
+    public ClientController(ReactiveClientService clientService, ClientBatchService clientBatchService,
+                            ResponseBytesCache responseCache, ObjectMapper objectMapper, ClientServiceProperties properties) {
         this.clientService = clientService;
+        this.clientBatchService = clientBatchService;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+        maxBatchItems = properties.getBatch().getMaxItems();
+        batchTimeout = properties.getBatch().getTimeout();
     }
 
 
-    @RequestMapping(method = RequestMethod.POST, path = "/client", produces = "application/json; charset=UTF-8")
-    public ResponseEntity getClientInformation(@RequestHeader(value = "Authorization", required = false) String authToken,
+    @RequestMapping(method = RequestMethod.POST, path = "/client", produces = { APPLICATION_JSON_UTF8_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE })
+    public Mono<ResponseEntity> getClientInformation(@RequestHeader(value = "Authorization", required = false) String authToken,
+                                               @RequestHeader(value = "Accept", required = false) String accept,
+                                               @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding,
+                                               @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
                                                @RequestBody @Valid ClientRequest clientRequest,
                                                BindingResult bindingResult) {
 
         log.info("Client information request attempt -> ( Transaction id : {} ) - Authorization ( {} )", clientRequest.getTransactionId(), authToken);
 
-        if (authToken.isEmpty()) {
-            return new ResponseEntity<>(ErrorResponse.create(new AuthorizationError("Token Missed!")), HttpStatus.UNAUTHORIZED);
+        if (bindingResult.hasErrors()) {
+            return Mono.just(new ResponseEntity<>(ErrorResponse.create(bindingResult), HttpStatus.INTERNAL_SERVER_ERROR));
         }
 
-        if (bindingResult.hasErrors()) {
-            return new ResponseEntity<>(ErrorResponse.create(bindingResult), HttpStatus.INTERNAL_SERVER_ERROR);
+        String transactionId = clientRequest.getTransactionId();
+        // JSON answers are written as tagged bytes, and the cacheable ones are kept as such
+        boolean json = HttpUtils.prefersJson(accept);
+        boolean cacheable = json && responseCache.isEnabled() && Objects.nonNull(authToken) && Objects.nonNull(transactionId);
+
+        if (cacheable) {
+            Optional<EncodedResponse> cached = responseCache.get(ResponseBytesCache.Endpoint.CLIENT, authToken, transactionId);
+            if (cached.isPresent()) {
+                return Mono.just(HttpUtils.toResponseEntity(cached.get(), acceptEncoding, ifNoneMatch));
+            }
         }
 
         return clientService.getClientInformation(clientRequest, authToken)
-                .map(clientResponse -> new ResponseEntity<>(clientResponse, HttpStatus.OK))
-                .orElseGet(() -> new ResponseEntity(ErrorResponse.create(), HttpStatus.INTERNAL_SERVER_ERROR));
+                .<ResponseEntity>map(clientResponse -> {
+                    if (!json) {
+                        return new ResponseEntity<>(clientResponse, HttpStatus.OK);
+                    }
+                    EncodedResponse encodedResponse = cacheable
+                            ? responseCache.put(ResponseBytesCache.Endpoint.CLIENT, authToken, transactionId, clientResponse)
+                            : responseCache.encode(clientResponse);
+                    return HttpUtils.toResponseEntity(encodedResponse, acceptEncoding, ifNoneMatch);
+                })
+                .defaultIfEmpty(new ResponseEntity<>(ErrorResponse.create(), HttpStatus.INTERNAL_SERVER_ERROR));
 
     }
 
+    /**
+     * Streams one JSON line per transaction, in the order the lookups complete.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/client/batch")
+    public ResponseEntity<ResponseBodyEmitter> getClientInformationBatch(@RequestHeader(value = "Authorization", required = false) String authToken,
+                                                                         @RequestBody List<ClientRequest> clientRequests) {
+
+        log.info("Client information batch request attempt -> ( Transactions : {} ) - Authorization ( {} )", clientRequests.size(), authToken);
+
+        if (clientRequests.size() > maxBatchItems) {
+            throw new BatchTooLargeException(maxBatchItems);
+        }
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(batchTimeout.toMillis());
+
+        clientBatchService.getClientInformation(clientRequests, authToken, clientBatchItem -> send(emitter, clientBatchItem))
+                .whenComplete((result, exp) -> {
+                    if (exp == null) {
+                        emitter.complete();
+                    } else {
+                        emitter.completeWithError(exp);
+                    }
+                });
+
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(emitter);
+
+    }
+
+    private void send(ResponseBodyEmitter emitter, ClientBatchItem clientBatchItem) {
+        try {
+            emitter.send(objectMapper.writeValueAsString(clientBatchItem) + "\n", APPLICATION_NDJSON);
+        } catch (IOException exp) {
+            throw new UncheckedIOException(exp);
+        }
+    }
+
 }
@@ -1,38 +1,125 @@
 package com.ozge.controller;
 
+import static com.ozge.util.ApiMediaTypes.APPLICATION_CBOR_VALUE;
+import static com.ozge.util.ApiMediaTypes.APPLICATION_JSON_UTF8_VALUE;
+import static com.ozge.util.ApiMediaTypes.APPLICATION_SMILE_VALUE;
+import static com.ozge.util.ApiMediaTypes.TEXT_CSV_UTF8_VALUE;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
+
 import javax.validation.Valid;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.ozge.model.error.AuthorizationError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozge.cache.EncodedResponse;
+import com.ozge.cache.ResponseBytesCache;
+import com.ozge.configuration.http.RefundReportCsvHttpMessageConverter;
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.exception.ReportJobFailedException;
+import com.ozge.job.ReportJob;
+import com.ozge.model.error.ApiError;
 import com.ozge.model.error.ErrorResponse;
+import com.ozge.model.request.RefundsAggregateRequest;
+import com.ozge.model.request.RefundsCompareRequest;
 import com.ozge.model.request.RefundsReportRequest;
-import com.ozge.service.ReportService;
+import com.ozge.model.request.RefundsSeriesRequest;
+import com.ozge.model.request.RefundsTopRequest;
+import com.ozge.model.response.RefundReport;
+import com.ozge.model.response.RefundsSeriesPeriod;
+import com.ozge.model.response.ReportJobResponse;
+import com.ozge.service.PassThroughService;
+import com.ozge.service.ReactiveReportService;
+import com.ozge.service.RefundAggregateService;
+import com.ozge.service.RefundCompareService;
+import com.ozge.service.RefundSeriesService;
+import com.ozge.service.RefundTopService;
+import com.ozge.service.ReportJobService;
+import com.ozge.util.CsvWriter;
+import com.ozge.util.DateUtils;
+import com.ozge.util.HttpUtils;
+
+import reactor.core.publisher.Mono;
 
 @RestController
 public class ReportController {
 
 	private final Logger log = LoggerFactory.getLogger(getClass());
 
-	private final ReportService reportService;
+	private static final MediaType APPLICATION_NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
+	private final ReactiveReportService reportService;
+
+	private final RefundAggregateService refundAggregateService;
+
+	private final RefundSeriesService refundSeriesService;
+
+	private final RefundTopService refundTopService;
+
+	private final RefundCompareService refundCompareService;
+
+	private final ReportJobService reportJobService;
+
+	private final PassThroughService passThroughService;
+
+	private final ResponseBytesCache responseCache;
+
+	private final ObjectMapper objectMapper;
+
+	private final Duration aggregateTimeout;
+
+	private final Duration seriesTimeout;
+
+	private final Duration topTimeout;
 
 	@Autowired
-	public ReportController(ReportService reportService) {
+	public ReportController(ReactiveReportService reportService, RefundAggregateService refundAggregateService,
+			RefundSeriesService refundSeriesService, RefundTopService refundTopService, RefundCompareService refundCompareService,
+			ReportJobService reportJobService, PassThroughService passThroughService, ResponseBytesCache responseCache,
+			ObjectMapper objectMapper, ReportServiceProperties properties) {
 		this.reportService = reportService;
+		this.refundAggregateService = refundAggregateService;
+		this.refundSeriesService = refundSeriesService;
+		this.refundTopService = refundTopService;
+		this.refundCompareService = refundCompareService;
+		this.reportJobService = reportJobService;
+		this.passThroughService = passThroughService;
+		this.responseCache = responseCache;
+		this.objectMapper = objectMapper;
+		aggregateTimeout = properties.getAggregate().getTimeout();
+		seriesTimeout = properties.getSeries().getTimeout();
+		topTimeout = properties.getTop().getTimeout();
 	}
 
-	@RequestMapping(method = RequestMethod.POST, path = "/refunds/report", produces = "application/json; charset=UTF-8")
-	public ResponseEntity refundsReport(@RequestHeader(name = "Authorization", required = false) String authToken,
+	@RequestMapping(method = RequestMethod.POST, path = "/refunds/report", produces = { APPLICATION_JSON_UTF8_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE, TEXT_CSV_UTF8_VALUE })
+	public Mono<ResponseEntity> refundsReport(@RequestHeader(name = "Authorization", required = false) String authToken,
+			@RequestHeader(name = "Accept", required = false) String accept,
+			@RequestHeader(name = "Accept-Encoding", required = false) String acceptEncoding,
+			@RequestHeader(name = "If-None-Match", required = false) String ifNoneMatch,
 			@RequestBody @Valid RefundsReportRequest refundsReportRequest, BindingResult bindingResult) {
 
 		log.info(
@@ -40,19 +127,296 @@ public class ReportController {
 				refundsReportRequest.getFromDate(), refundsReportRequest.getToDate(),
 				refundsReportRequest.getMerchant(), refundsReportRequest.getAcquirer(), authToken);
 
-		if (authToken.isEmpty()) {
-			return new ResponseEntity<>(ErrorResponse.create(new AuthorizationError("Token Missed!")),
-					HttpStatus.UNAUTHORIZED);
+		if (bindingResult.hasErrors()) {
+			return Mono.just(new ResponseEntity<>(ErrorResponse.create(bindingResult), HttpStatus.INTERNAL_SERVER_ERROR));
 		}
 
+		// JSON answers are written as tagged bytes, and the cacheable ones are kept as such
+		boolean json = HttpUtils.prefersJson(accept);
+		boolean cacheable = json && responseCache.isEnabled() && Objects.nonNull(authToken);
+		String key = cacheable ? cacheKey(refundsReportRequest) : null;
+
+		if (cacheable) {
+			Optional<EncodedResponse> cached = responseCache.get(ResponseBytesCache.Endpoint.REFUNDS_REPORT, authToken, key);
+			if (cached.isPresent()) {
+				return Mono.just(HttpUtils.toResponseEntity(cached.get(), acceptEncoding, ifNoneMatch));
+			}
+		}
+
+		// relayed bodies are neither cached nor tagged, they are the upstream's own bytes
+		if (passThroughService.isRefundsReportEnabled() && json) {
+			return Mono.fromCallable(() -> passThroughService.relayRefundsReport(refundsReportRequest, authToken));
+		}
+
+		return reportService.getRefundsReport(refundsReportRequest, authToken)
+				.<ResponseEntity>map(refundReportResponse -> {
+					if (!json) {
+						return new ResponseEntity<>(refundReportResponse, HttpStatus.OK);
+					}
+					EncodedResponse encodedResponse = cacheable
+							? responseCache.put(ResponseBytesCache.Endpoint.REFUNDS_REPORT, authToken, key, refundReportResponse)
+							: responseCache.encode(refundReportResponse);
+					return HttpUtils.toResponseEntity(encodedResponse, acceptEncoding, ifNoneMatch);
+				})
+				.defaultIfEmpty(new ResponseEntity<>(ErrorResponse.create(), HttpStatus.INTERNAL_SERVER_ERROR));
+
+	}
+
+	@RequestMapping(method = RequestMethod.POST, path = "/refunds/report/aggregate", produces = { APPLICATION_JSON_UTF8_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE })
+	public Mono<ResponseEntity> refundsAggregate(@RequestHeader(name = "Authorization", required = false) String authToken,
+			@RequestBody @Valid RefundsAggregateRequest refundsAggregateRequest, BindingResult bindingResult) {
+
+		log.info(
+				"Refunds aggregate request attempt -> ( Report fromDate : {} - toDate : {} - merchants : {} - acquirers : {} ) - Authorization ( {} )",
+				refundsAggregateRequest.getFromDate(), refundsAggregateRequest.getToDate(),
+				refundsAggregateRequest.getMerchants(), refundsAggregateRequest.getAcquirers(), authToken);
+
+		if (bindingResult.hasErrors()) {
+			return Mono.just(new ResponseEntity<>(ErrorResponse.create(bindingResult), HttpStatus.INTERNAL_SERVER_ERROR));
+		}
+
+		return within(refundAggregateService.getRefundsAggregate(refundsAggregateRequest, authToken), aggregateTimeout)
+				.<ResponseEntity>map(refundsAggregateResponse -> new ResponseEntity<>(refundsAggregateResponse, HttpStatus.OK));
+
+	}
+
+	@RequestMapping(method = RequestMethod.POST, path = "/refunds/report/series", produces = { APPLICATION_JSON_UTF8_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE })
+	public Mono<ResponseEntity> refundsSeries(@RequestHeader(name = "Authorization", required = false) String authToken,
+			@RequestBody @Valid RefundsSeriesRequest refundsSeriesRequest, BindingResult bindingResult) {
+
+		log.info(
+				"Refunds series request attempt -> ( Report fromDate : {} - toDate : {} - merchant : {} - acquirer : {} - interval : {} ) - Authorization ( {} )",
+				refundsSeriesRequest.getFromDate(), refundsSeriesRequest.getToDate(), refundsSeriesRequest.getMerchant(),
+				refundsSeriesRequest.getAcquirer(), refundsSeriesRequest.getInterval(), authToken);
+
+		if (bindingResult.hasErrors()) {
+			return Mono.just(new ResponseEntity<>(ErrorResponse.create(bindingResult), HttpStatus.INTERNAL_SERVER_ERROR));
+		}
+
+		return within(refundSeriesService.getRefundsSeries(refundsSeriesRequest, authToken), seriesTimeout)
+				.<ResponseEntity>map(refundsSeriesResponse -> new ResponseEntity<>(refundsSeriesResponse, HttpStatus.OK));
+
+	}
+
+	/**
+	 * Streams one JSON line per period, in order, writing each as soon as its days are known.
+	 * The series is resolved on the streaming thread a window at a time, so it goes no faster
+	 * than the client reads it.
+	 */
+	@RequestMapping(method = RequestMethod.POST, path = "/refunds/report/series/stream")
+	public ResponseEntity<StreamingResponseBody> refundsSeriesStream(@RequestHeader(name = "Authorization", required = false) String authToken,
+			@RequestBody @Valid RefundsSeriesRequest refundsSeriesRequest, BindingResult bindingResult) throws BindException {
+
+		log.info(
+				"Refunds series stream request attempt -> ( Report fromDate : {} - toDate : {} - merchant : {} - acquirer : {} - interval : {} ) - Authorization ( {} )",
+				refundsSeriesRequest.getFromDate(), refundsSeriesRequest.getToDate(), refundsSeriesRequest.getMerchant(),
+				refundsSeriesRequest.getAcquirer(), refundsSeriesRequest.getInterval(), authToken);
+
+		// a streamed body has no room for the error response, which is left to RestExceptionHandler
+		if (bindingResult.hasErrors()) {
+			throw new BindException(bindingResult);
+		}
+
+		refundSeriesService.checkRefundsSeries(refundsSeriesRequest);
+
+		StreamingResponseBody body = outputStream ->
+				refundSeriesService.streamRefundsSeries(refundsSeriesRequest, authToken, refundsSeriesPeriod -> send(outputStream, refundsSeriesPeriod));
+
+		return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+
+	}
+
+	/**
+	 * Streams the series as CSV, one row per period and currency, gzipped on the fly for
+	 * clients accepting it.
+	 */
+	@RequestMapping(method = RequestMethod.POST, path = "/refunds/report/series/csv")
+	public ResponseEntity<StreamingResponseBody> refundsSeriesCsv(@RequestHeader(name = "Authorization", required = false) String authToken,
+			@RequestHeader(name = "Accept-Encoding", required = false) String acceptEncoding,
+			@RequestBody @Valid RefundsSeriesRequest refundsSeriesRequest, BindingResult bindingResult) throws BindException {
+
+		log.info(
+				"Refunds series csv request attempt -> ( Report fromDate : {} - toDate : {} - merchant : {} - acquirer : {} - interval : {} ) - Authorization ( {} )",
+				refundsSeriesRequest.getFromDate(), refundsSeriesRequest.getToDate(), refundsSeriesRequest.getMerchant(),
+				refundsSeriesRequest.getAcquirer(), refundsSeriesRequest.getInterval(), authToken);
+
+		// refused before the body starts, which cannot turn the response into an error any more
+		if (bindingResult.hasErrors()) {
+			throw new BindException(bindingResult);
+		}
+
+		refundSeriesService.checkRefundsSeries(refundsSeriesRequest);
+
+		boolean gzip = HttpUtils.acceptsGzip(acceptEncoding);
+
+		StreamingResponseBody body = outputStream -> {
+			OutputStream out = gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+			// the default buffer of the writer is all a series holds, whatever its length
+			CsvWriter csvWriter = new CsvWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+			csvWriter.field("period").field("currency").field("count").field("total").field("missing_days").endRow();
+			refundSeriesService.streamRefundsSeries(refundsSeriesRequest, authToken, refundsSeriesPeriod -> write(csvWriter, refundsSeriesPeriod));
+			csvWriter.flush();
+
+			if (gzip) {
+				((GZIPOutputStream) out).finish();
+			}
+		};
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+				.contentType(RefundReportCsvHttpMessageConverter.TEXT_CSV)
+				.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+		if (gzip) {
+			response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+
+		return response.body(body);
+
+	}
+
+	@RequestMapping(method = RequestMethod.POST, path = "/refunds/report/top", produces = { APPLICATION_JSON_UTF8_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE })
+	public Mono<ResponseEntity> refundsTop(@RequestHeader(name = "Authorization", required = false) String authToken,
+			@RequestBody @Valid RefundsTopRequest refundsTopRequest, BindingResult bindingResult) {
+
+		log.info(
+				"Refunds top request attempt -> ( Report fromDate : {} - toDate : {} - currency : {} - by : {} - limit : {} - merchants : {} ) - Authorization ( {} )",
+				refundsTopRequest.getFromDate(), refundsTopRequest.getToDate(), refundsTopRequest.getCurrency(),
+				refundsTopRequest.getBy(), refundsTopRequest.getLimit(), refundsTopRequest.getMerchants(), authToken);
+
+		if (bindingResult.hasErrors()) {
+			return Mono.just(new ResponseEntity<>(ErrorResponse.create(bindingResult), HttpStatus.INTERNAL_SERVER_ERROR));
+		}
+
+		return within(refundTopService.getRefundsTop(refundsTopRequest, authToken), topTimeout)
+				.<ResponseEntity>map(refundsTopResponse -> new ResponseEntity<>(refundsTopResponse, HttpStatus.OK));
+
+	}
+
+	@RequestMapping(method = RequestMethod.POST, path = "/refunds/report/compare", produces = { APPLICATION_JSON_UTF8_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE })
+	public Mono<ResponseEntity> refundsCompare(@RequestHeader(name = "Authorization", required = false) String authToken,
+			@RequestBody @Valid RefundsCompareRequest refundsCompareRequest, BindingResult bindingResult) {
+
+		log.info(
+				"Refunds compare request attempt -> ( Previous fromDate : {} - toDate : {} - Current fromDate : {} - toDate : {} - merchant : {} - acquirer : {} ) - Authorization ( {} )",
+				refundsCompareRequest.getPreviousFromDate(), refundsCompareRequest.getPreviousToDate(),
+				refundsCompareRequest.getCurrentFromDate(), refundsCompareRequest.getCurrentToDate(),
+				refundsCompareRequest.getMerchant(), refundsCompareRequest.getAcquirer(), authToken);
+
+		if (bindingResult.hasErrors()) {
+			return Mono.just(new ResponseEntity<>(ErrorResponse.create(bindingResult), HttpStatus.INTERNAL_SERVER_ERROR));
+		}
+
+		// both ranges run on the aggregation executor, within its timeout
+		return within(refundCompareService.getRefundsComparison(refundsCompareRequest, authToken), aggregateTimeout)
+				.flatMap(Mono::justOrEmpty)
+				.<ResponseEntity>map(refundsCompareResponse -> new ResponseEntity<>(refundsCompareResponse, HttpStatus.OK))
+				.defaultIfEmpty(new ResponseEntity<>(ErrorResponse.create(), HttpStatus.INTERNAL_SERVER_ERROR));
+
+	}
+
+	@RequestMapping(method = RequestMethod.POST, path = "/refunds/report/jobs", produces = { APPLICATION_JSON_UTF8_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE })
+	public ResponseEntity refundsReportJob(@RequestHeader(name = "Authorization", required = false) String authToken,
+			@RequestBody @Valid RefundsReportRequest refundsReportRequest, BindingResult bindingResult) {
+
+		log.info(
+				"Refunds report job attempt -> ( Report fromDate : {} - toDate : {} - merchant : {} - acquirer : {} ) - Authorization ( {} )",
+				refundsReportRequest.getFromDate(), refundsReportRequest.getToDate(),
+				refundsReportRequest.getMerchant(), refundsReportRequest.getAcquirer(), authToken);
+
 		if (bindingResult.hasErrors()) {
 			return new ResponseEntity<>(ErrorResponse.create(bindingResult), HttpStatus.INTERNAL_SERVER_ERROR);
 		}
 
-		return reportService.getRefundsReport(refundsReportRequest, authToken)
-				.map(refundReportResponse -> new ResponseEntity<>(refundReportResponse, HttpStatus.OK))
-				.orElseGet(() -> new ResponseEntity(ErrorResponse.create(), HttpStatus.INTERNAL_SERVER_ERROR));
+		ReportJob reportJob = reportJobService.submit(refundsReportRequest, authToken);
+
+		return new ResponseEntity<>(ReportJobResponse.of(reportJob), HttpStatus.ACCEPTED);
+
+	}
+
+	@RequestMapping(method = RequestMethod.GET, path = "/refunds/report/jobs/{id}", produces = { APPLICATION_JSON_UTF8_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE })
+	public ResponseEntity refundsReportJobStatus(@RequestHeader(name = "Authorization", required = false) String authToken,
+			@PathVariable("id") String id) {
+
+		return reportJobService.getJob(id, authToken)
+				.<ResponseEntity>map(reportJob -> new ResponseEntity<>(ReportJobResponse.of(reportJob), HttpStatus.OK))
+				.orElseGet(() -> jobNotFound(id));
+
+	}
+
+	@RequestMapping(method = RequestMethod.GET, path = "/refunds/report/jobs/{id}/result", produces = { APPLICATION_JSON_UTF8_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE })
+	public ResponseEntity refundsReportJobResult(@RequestHeader(name = "Authorization", required = false) String authToken,
+			@PathVariable("id") String id) {
+
+		ReportJob reportJob = reportJobService.getJob(id, authToken).orElse(null);
+
+		if (Objects.isNull(reportJob)) {
+			return jobNotFound(id);
+		}
+
+		switch (reportJob.getState()) {
+		case SUCCEEDED:
+			return new ResponseEntity<>(reportJob.getResult(), HttpStatus.OK);
+		case FAILED:
+			// wrapped, so that the stored failure is never thrown again by the requests reading it
+			throw new ReportJobFailedException(reportJob.getId(), reportJob.getFailure());
+		default:
+			return new ResponseEntity<>(ReportJobResponse.of(reportJob), HttpStatus.ACCEPTED);
+		}
+
+	}
+
+	/**
+	 * The result of the future, failing with a {@link java.util.concurrent.TimeoutException}
+	 * when it takes longer than the timeout. The future is cancelled once the response no
+	 * longer waits for it, so that its workers start no further upstream query.
+	 */
+	private static <T> Mono<T> within(CompletableFuture<T> future, Duration timeout) {
+		return Mono.fromFuture(future)
+				.timeout(timeout)
+				.doFinally(signal -> future.cancel(true));
+	}
+
+	private void send(OutputStream outputStream, RefundsSeriesPeriod refundsSeriesPeriod) {
+		try {
+			// a blocking write, so a slow client holds the series back
+			outputStream.write(objectMapper.writeValueAsBytes(refundsSeriesPeriod));
+			outputStream.write('\n');
+			outputStream.flush();
+		} catch (IOException exp) {
+			throw new UncheckedIOException(exp);
+		}
+	}
+
+	private static void write(CsvWriter csvWriter, RefundsSeriesPeriod refundsSeriesPeriod) {
+		try {
+			if (Objects.isNull(refundsSeriesPeriod.getRefunds()) || refundsSeriesPeriod.getRefunds().isEmpty()) {
+				csvWriter.field(refundsSeriesPeriod.getPeriod()).field(null).field(0).field(0).field(refundsSeriesPeriod.getMissingDays()).endRow();
+				return;
+			}
+			for (RefundReport refundReport : refundsSeriesPeriod.getRefunds()) {
+				csvWriter.field(refundsSeriesPeriod.getPeriod())
+						.field(refundReport.getCurrency())
+						.field(Objects.isNull(refundReport.getCount()) ? 0 : refundReport.getCount())
+						.field(Objects.isNull(refundReport.getTotal()) ? 0L : refundReport.getTotal())
+						.field(refundsSeriesPeriod.getMissingDays())
+						.endRow();
+			}
+		} catch (IOException exp) {
+			throw new UncheckedIOException(exp);
+		}
+	}
+
+	private static ResponseEntity jobNotFound(String id) {
+		return new ResponseEntity<>(ErrorResponse.create(new ApiError("Report job " + id + " not found")), HttpStatus.NOT_FOUND);
+	}
 
+	/**
+	 * The report request with its dates as days, as the upstream reads them.
+	 */
+	private static String cacheKey(RefundsReportRequest refundsReportRequest) {
+		return DateUtils.toLocalDate(refundsReportRequest.getFromDate()) + "|" + DateUtils.toLocalDate(refundsReportRequest.getToDate())
+				+ "|" + refundsReportRequest.getMerchant() + "|" + refundsReportRequest.getAcquirer();
 	}
 
 }
@@ -1,5 +1,9 @@
 package com.ozge.controller;
 
+import static com.ozge.util.ApiMediaTypes.APPLICATION_CBOR_VALUE;
+import static com.ozge.util.ApiMediaTypes.APPLICATION_JSON_UTF8_VALUE;
+import static com.ozge.util.ApiMediaTypes.APPLICATION_SMILE_VALUE;
+
 import javax.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,23 +16,29 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
-import com.ozge.model.error.AuthorizationError;
 import com.ozge.model.error.ErrorResponse;
 import com.ozge.model.error.LoginError;
 import com.ozge.model.request.Credentials;
 import com.ozge.model.request.MerchantUserRequest;
-import com.ozge.service.UserService;
+import com.ozge.service.PassThroughService;
+import com.ozge.service.ReactiveUserService;
+import com.ozge.util.HttpUtils;
+
+import reactor.core.publisher.Mono;
 
 @RestController
 public class UserController {
 
 	private final Logger log = LoggerFactory.getLogger(getClass());
 
-	private final UserService userService;
+	private final ReactiveUserService userService;
+
+	private final PassThroughService passThroughService;
 
 	@Autowired
-	public UserController(UserService userService) {
+	public UserController(ReactiveUserService userService, PassThroughService passThroughService) {
 		this.userService = userService;
+		this.passThroughService = passThroughService;
 	}
 	
 	/**
@@ -37,18 +47,18 @@ public class UserController {
 	 * @param bindingResult
 	 * @return
 	 */
-	@RequestMapping(method = RequestMethod.POST, path = "/user/login", produces = "application/json; charset=UTF-8")
-	public ResponseEntity userLogin(@RequestBody @Valid Credentials credentials, BindingResult bindingResult) {
+	@RequestMapping(method = RequestMethod.POST, path = "/user/login", produces = { APPLICATION_JSON_UTF8_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE })
+	public Mono<ResponseEntity> userLogin(@RequestBody @Valid Credentials credentials, BindingResult bindingResult) {
 
 		log.info("User login attempt -> Credential ( email : {} - password : {} )", credentials.getEmail(),
 				credentials.getPassword());
 
 		if (bindingResult.hasErrors()) {
-			return new ResponseEntity<>(ErrorResponse.create(bindingResult), HttpStatus.INTERNAL_SERVER_ERROR);
+			return Mono.just(new ResponseEntity<>(ErrorResponse.create(bindingResult), HttpStatus.INTERNAL_SERVER_ERROR));
 		}
 
-		return userService.login(credentials).map(authToken -> new ResponseEntity<>(authToken, HttpStatus.OK))
-				.orElseGet(() -> new ResponseEntity(ErrorResponse.create(new LoginError()),
+		return userService.login(credentials).<ResponseEntity>map(authToken -> new ResponseEntity<>(authToken, HttpStatus.OK))
+				.defaultIfEmpty(new ResponseEntity<>(ErrorResponse.create(new LoginError()),
 						HttpStatus.INTERNAL_SERVER_ERROR));
 
 	}
@@ -56,30 +66,31 @@ public class UserController {
 	/**
 	 * Get Merchant user info.
 	 * @param authToken
+	 * @param accept
 	 * @param merchantUserRequest
 	 * @param bindingResult
 	 * @return
 	 */
-	@RequestMapping(method = RequestMethod.POST, path = "/user/show", produces = "application/json; charset=UTF-8")
-	public ResponseEntity getMerchantUserInformation(
+	@RequestMapping(method = RequestMethod.POST, path = "/user/show", produces = { APPLICATION_JSON_UTF8_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE })
+	public Mono<ResponseEntity> getMerchantUserInformation(
 			@RequestHeader(value = "Authorization", required = false) String authToken,
+			@RequestHeader(value = "Accept", required = false) String accept,
 			@RequestBody @Valid MerchantUserRequest merchantUserRequest, BindingResult bindingResult) {
 
 		log.info("Merchant user information request attempt -> ( User id : {} ) - Authorization ( {} )",
 				merchantUserRequest.getId(), authToken);
 
-		if (authToken.isEmpty()) {
-			return new ResponseEntity<>(ErrorResponse.create(new AuthorizationError("Token Missed!")),
-					HttpStatus.UNAUTHORIZED);
+		if (bindingResult.hasErrors()) {
+			return Mono.just(new ResponseEntity<>(ErrorResponse.create(bindingResult), HttpStatus.INTERNAL_SERVER_ERROR));
 		}
 
-		if (bindingResult.hasErrors()) {
-			return new ResponseEntity<>(ErrorResponse.create(bindingResult), HttpStatus.INTERNAL_SERVER_ERROR);
+		if (passThroughService.isMerchantUserInformationEnabled() && HttpUtils.prefersJson(accept)) {
+			return Mono.fromCallable(() -> passThroughService.relayMerchantUserInformation(merchantUserRequest, authToken));
 		}
 
 		return userService.getMerchantUserInformation(merchantUserRequest, authToken)
-				.map(merchantUserInfoResponse -> new ResponseEntity<>(merchantUserInfoResponse, HttpStatus.OK))
-				.orElseGet(() -> new ResponseEntity(ErrorResponse.create(), HttpStatus.INTERNAL_SERVER_ERROR));
+				.<ResponseEntity>map(merchantUserInfoResponse -> new ResponseEntity<>(merchantUserInfoResponse, HttpStatus.OK))
+				.defaultIfEmpty(new ResponseEntity<>(ErrorResponse.create(), HttpStatus.INTERNAL_SERVER_ERROR));
 
 	}
 
@@ -0,0 +1,13 @@
+package com.ozge.exception;
+
+public class BatchTooLargeException extends RuntimeException {
+
+    public BatchTooLargeException(int maxItems) {
+        this("Batch cannot have more than " + maxItems + " items");
+    }
+
+    public BatchTooLargeException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.ozge.exception;
+
+/**
+ * Thrown when a request asks for fewer than one or more than the allowed number of results.
+ */
+public class InvalidLimitException extends RuntimeException {
+
+    public InvalidLimitException(String message) {
+        super(message);
+    }
+
+}
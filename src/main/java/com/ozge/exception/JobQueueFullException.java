@@ -0,0 +1,9 @@
+package com.ozge.exception;
+
+public class JobQueueFullException extends RuntimeException {
+
+    public JobQueueFullException(String message) {
+        super(message);
+    }
+
+}
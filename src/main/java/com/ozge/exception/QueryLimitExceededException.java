@@ -0,0 +1,13 @@
+package com.ozge.exception;
+
+/**
+ * Thrown when a report request would take more upstream queries than it is allowed to,
+ * querying too many merchants or spanning too many days.
+ */
+public class QueryLimitExceededException extends RuntimeException {
+
+    public QueryLimitExceededException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.ozge.exception;
+
+/**
+ * Answer of the result of a failed report job, made anew for every request, with the
+ * exception the job failed with as its cause when there is one.
+ */
+public class ReportJobFailedException extends RuntimeException {
+
+    public ReportJobFailedException(String id, Throwable cause) {
+        super("Report job " + id + " failed", cause);
+    }
+
+}
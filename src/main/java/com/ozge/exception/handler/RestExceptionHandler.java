@@ -1,16 +1,26 @@
 package com.ozge.exception.handler;
 
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 
+import com.ozge.exception.BatchTooLargeException;
+import com.ozge.exception.BulkheadFullException;
+import com.ozge.exception.InvalidLimitException;
+import com.ozge.exception.JobQueueFullException;
 import com.ozge.exception.NullCustomerInfoException;
+import com.ozge.exception.QueryLimitExceededException;
+import com.ozge.exception.ReportJobFailedException;
 import com.ozge.model.error.ApiError;
 import com.ozge.model.error.AuthorizationError;
 import com.ozge.model.error.ErrorResponse;
@@ -41,6 +51,81 @@ public class RestExceptionHandler {
         return new ResponseEntity<>(ErrorResponse.create(new ApiError(exp.getCause().getMessage().split("\n")[0])), HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Invalid requests of handlers answering no error body of their own, answered like the
+     * binding errors of the other handlers.
+     */
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity handleBindException(BindException exp) {
+        log.error("Api was called wrongly -> message : {}", exp.getMessage());
+
+        return new ResponseEntity<>(ErrorResponse.create(exp.getBindingResult()), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity handleBatchTooLargeException(Exception exp) {
+        log.error("Api was called wrongly -> message : {}", exp.getMessage());
+
+        return new ResponseEntity<>(ErrorResponse.create(new ApiError(exp.getMessage())), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler({ QueryLimitExceededException.class, InvalidLimitException.class })
+    public ResponseEntity handleLimitException(RuntimeException exp) {
+        log.error("Api was called wrongly -> message : {}", exp.getMessage());
+
+        return new ResponseEntity<>(ErrorResponse.create(new ApiError(exp.getMessage())), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity handleBulkheadFullException(BulkheadFullException exp) {
+        log.error("Api is saturated -> message : {}", exp.getMessage());
+
+        return new ResponseEntity<>(ErrorResponse.create(new ApiError(exp.getMessage())), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(JobQueueFullException.class)
+    public ResponseEntity handleJobQueueFullException(Exception exp) {
+        log.error("Api is saturated -> message : {}", exp.getMessage());
+
+        return new ResponseEntity<>(ErrorResponse.create(new ApiError(exp.getMessage())), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity handleRejectedExecutionException(RejectedExecutionException exp) {
+        log.error("Api is saturated -> message : {}", exp.getMessage());
+
+        return new ResponseEntity<>(ErrorResponse.create(new ApiError("Too many requests in progress, please retry later")), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity handleTimeoutException(TimeoutException exp) {
+        log.error("Api timed out -> message : {}", exp.getMessage());
+
+        return new ResponseEntity<>(ErrorResponse.create(new ApiError("Report took too long, please narrow it down")), HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    /**
+     * A failed job answers as the synchronous report would have for the upstream failures,
+     * and with a stable message otherwise, whatever the job failed with.
+     */
+    @ExceptionHandler(ReportJobFailedException.class)
+    public ResponseEntity handleReportJobFailedException(ReportJobFailedException exp) {
+        Throwable cause = exp.getCause();
+
+        log.error("Report job failed -> message : {} - cause : {}", exp.getMessage(), String.valueOf(cause));
+
+        if (cause instanceof HttpClientErrorException) {
+            return new ResponseEntity<>(ErrorResponse.create(new AuthorizationError("Token Expired!")), HttpStatus.UNAUTHORIZED);
+        }
+
+        if (cause instanceof BulkheadFullException || cause instanceof RejectedExecutionException) {
+            return new ResponseEntity<>(ErrorResponse.create(new ApiError("Report job was refused upstream, please submit it again")),
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        return new ResponseEntity<>(ErrorResponse.create(new ApiError("Report job failed, please submit it again")), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     @ExceptionHandler(NullCustomerInfoException.class)
     public ResponseEntity handleNullCustomerInfoException(Exception exp) {
         log.error("Api was called wrongly -> message : {}", exp.getMessage());
@@ -0,0 +1,134 @@
+package com.ozge.filter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.cache.TokenClaimsCache;
+import com.ozge.configuration.properties.AuthorizationProperties;
+import com.ozge.model.auth.TokenClaims;
+import com.ozge.model.error.AuthorizationError;
+import com.ozge.model.error.ErrorResponse;
+import com.ozge.util.TokenUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Rejects missing, malformed and expired authorization tokens before they reach the
+ * upstream. The signature cannot be checked here, so accepted tokens are still verified
+ * by the upstream; their decoded claims are exposed as the {@link #CLAIMS_ATTRIBUTE}
+ * request attribute. Requests to the /admin endpoints, which call no upstream, must in
+ * addition claim the admin role with a token the upstream already accepted, e.g. one
+ * issued by /user/login or used for /user/show, so that a forged admin claim is refused.
+ */
+public class AuthorizationTokenFilter extends OncePerRequestFilter {
+
+	public static final String CLAIMS_ATTRIBUTE = AuthorizationTokenFilter.class.getName() + ".CLAIMS";
+
+	private static final String ADMIN_PATH = "/admin/";
+
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	private final TokenClaimsCache tokenClaimsCache;
+
+	private final AuthorizationScopes authorizationScopes;
+
+	private final ObjectMapper objectMapper;
+
+	private final MeterRegistry meterRegistry;
+
+	private final Clock clock;
+
+	private final Duration tokenLifetime;
+
+	private final Duration clockSkew;
+
+	private final String adminRole;
+
+	public AuthorizationTokenFilter(TokenClaimsCache tokenClaimsCache, AuthorizationScopes authorizationScopes,
+			ObjectMapper objectMapper, MeterRegistry meterRegistry, Clock clock, AuthorizationProperties properties) {
+		this.tokenClaimsCache = tokenClaimsCache;
+		this.authorizationScopes = authorizationScopes;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.clock = clock;
+		tokenLifetime = properties.getTokenLifetime();
+		clockSkew = properties.getClockSkew();
+		adminRole = properties.getAdminRole();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+
+		String authToken = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+		if (!StringUtils.hasText(authToken)) {
+			reject(response, HttpStatus.UNAUTHORIZED, "missing", "Token Missed!");
+			return;
+		}
+
+		Optional<TokenClaims> claims = tokenClaimsCache.get(authToken);
+
+		if (!claims.isPresent()) {
+			reject(response, HttpStatus.UNAUTHORIZED, "malformed", "Token Invalid!");
+			return;
+		}
+
+		Optional<Instant> expiresAt = TokenUtils.expiresAt(claims.get(), tokenLifetime);
+
+		if (expiresAt.isPresent() && !clock.instant().isBefore(expiresAt.get().plus(clockSkew))) {
+			reject(response, HttpStatus.UNAUTHORIZED, "expired", "Token Expired!");
+			return;
+		}
+
+		if (isAdminRequest(request)) {
+			if (!adminRole.equals(claims.get().getRole())) {
+				reject(response, HttpStatus.FORBIDDEN, "forbidden", "Admin Role Required!");
+				return;
+			}
+			// the claims of an unverified token are not signed by anyone we checked
+			if (!authorizationScopes.verifiedScope(authToken).isPresent()) {
+				reject(response, HttpStatus.FORBIDDEN, "unverified", "Verified Admin Token Required!");
+				return;
+			}
+		}
+
+		request.setAttribute(CLAIMS_ATTRIBUTE, claims.get());
+		filterChain.doFilter(request, response);
+
+	}
+
+	private static boolean isAdminRequest(HttpServletRequest request) {
+		return request.getRequestURI().startsWith(request.getContextPath() + ADMIN_PATH);
+	}
+
+	private void reject(HttpServletResponse response, HttpStatus status, String reason, String message) throws IOException {
+
+		log.info("Authorization token rejected -> ( reason : {} )", reason);
+		meterRegistry.counter("authorization.token.rejections", "reason", reason).increment();
+
+		response.setStatus(status.value());
+		response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+		objectMapper.writeValue(response.getOutputStream(), ErrorResponse.create(new AuthorizationError(message)));
+
+	}
+
+}
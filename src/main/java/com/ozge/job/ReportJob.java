@@ -0,0 +1,106 @@
+package com.ozge.job;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ozge.model.response.RefundReportResponse;
+
+/**
+ * Refund report computed in the background, one bucket of its range at a time. A job is
+ * readable by the token that submitted it and by tokens of the scope it was verified for.
+ */
+public final class ReportJob {
+
+	public enum State {
+		QUEUED, RUNNING, SUCCEEDED, FAILED
+	}
+
+	private final String id;
+
+	private final String tokenHash;
+
+	private final int bucketsTotal;
+
+	private final AtomicInteger bucketsDone = new AtomicInteger();
+
+	private volatile String scope;
+
+	private volatile State state = State.QUEUED;
+
+	private volatile RefundReportResponse result;
+
+	private volatile RuntimeException failure;
+
+	private volatile Instant expiresAt;
+
+	public ReportJob(String id, String tokenHash, String scope, int bucketsTotal) {
+		this.id = id;
+		this.tokenHash = tokenHash;
+		this.scope = scope;
+		this.bucketsTotal = bucketsTotal;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	public int getBucketsDone() {
+		return bucketsDone.get();
+	}
+
+	public int getBucketsTotal() {
+		return bucketsTotal;
+	}
+
+	public RefundReportResponse getResult() {
+		return result;
+	}
+
+	/**
+	 * Exception the job failed with; null when it failed without one or did not fail.
+	 */
+	public RuntimeException getFailure() {
+		return failure;
+	}
+
+	public boolean isFinished() {
+		return state == State.SUCCEEDED || state == State.FAILED;
+	}
+
+	public boolean isExpired(Instant now) {
+		return isFinished() && !expiresAt.isAfter(now);
+	}
+
+	public boolean isReadableBy(String tokenHash, String scope) {
+		return this.tokenHash.equals(tokenHash) || (Objects.nonNull(scope) && scope.equals(this.scope));
+	}
+
+	public void started() {
+		state = State.RUNNING;
+	}
+
+	public void bucketDone() {
+		bucketsDone.incrementAndGet();
+	}
+
+	public void succeeded(RefundReportResponse result, String scope, Instant expiresAt) {
+		this.result = result;
+		if (Objects.nonNull(scope)) {
+			this.scope = scope;
+		}
+		this.expiresAt = expiresAt;
+		state = State.SUCCEEDED;
+	}
+
+	public void failed(RuntimeException failure, Instant expiresAt) {
+		this.failure = failure;
+		this.expiresAt = expiresAt;
+		state = State.FAILED;
+	}
+
+}
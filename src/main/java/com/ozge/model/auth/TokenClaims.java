@@ -0,0 +1,70 @@
+package com.ozge.model.auth;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TokenClaims {
+
+	private Integer merchantUserId;
+
+	private String role;
+
+	private Integer merchantId;
+
+	private List<Integer> subMerchantIds;
+
+	private Long timestamp;
+
+	private Long exp;
+
+	public Integer getMerchantUserId() {
+		return merchantUserId;
+	}
+
+	public void setMerchantUserId(Integer merchantUserId) {
+		this.merchantUserId = merchantUserId;
+	}
+
+	public String getRole() {
+		return role;
+	}
+
+	public void setRole(String role) {
+		this.role = role;
+	}
+
+	public Integer getMerchantId() {
+		return merchantId;
+	}
+
+	public void setMerchantId(Integer merchantId) {
+		this.merchantId = merchantId;
+	}
+
+	public List<Integer> getSubMerchantIds() {
+		return subMerchantIds;
+	}
+
+	public void setSubMerchantIds(List<Integer> subMerchantIds) {
+		this.subMerchantIds = subMerchantIds;
+	}
+
+	public Long getTimestamp() {
+		return timestamp;
+	}
+
+	public void setTimestamp(Long timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	public Long getExp() {
+		return exp;
+	}
+
+	public void setExp(Long exp) {
+		this.exp = exp;
+	}
+
+}
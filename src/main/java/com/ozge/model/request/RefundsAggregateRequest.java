@@ -0,0 +1,75 @@
+package com.ozge.model.request;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import javax.validation.constraints.NotNull;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RefundsAggregateRequest {
+
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	@NotNull(message = "From Date cannot be null")
+	private Date fromDate;
+
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	@NotNull(message = "To Date cannot be null")
+	private Date toDate;
+
+	private List<Integer> merchants = new ArrayList<>();
+
+	private List<Integer> acquirers = new ArrayList<>();
+
+	public RefundsAggregateRequest() {
+		super();
+	}
+
+	public RefundsAggregateRequest(Date fromDate, Date toDate, List<Integer> merchants, List<Integer> acquirers) {
+		super();
+		this.fromDate = fromDate;
+		this.toDate = toDate;
+		this.merchants = merchants;
+		this.acquirers = acquirers;
+	}
+
+	public Date getFromDate() {
+		return fromDate;
+	}
+
+	public void setFromDate(Date fromDate) {
+		this.fromDate = fromDate;
+	}
+
+	public Date getToDate() {
+		return toDate;
+	}
+
+	public void setToDate(Date toDate) {
+		this.toDate = toDate;
+	}
+
+	public List<Integer> getMerchants() {
+		return merchants;
+	}
+
+	public void setMerchants(List<Integer> merchants) {
+		this.merchants = merchants;
+	}
+
+	public List<Integer> getAcquirers() {
+		return acquirers;
+	}
+
+	public void setAcquirers(List<Integer> acquirers) {
+		this.acquirers = acquirers;
+	}
+
+}
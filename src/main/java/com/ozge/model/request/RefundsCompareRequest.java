@@ -0,0 +1,102 @@
+package com.ozge.model.request;
+
+import java.util.Date;
+
+import javax.validation.constraints.NotNull;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RefundsCompareRequest {
+
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	@NotNull(message = "Previous From Date cannot be null")
+	private Date previousFromDate;
+
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	@NotNull(message = "Previous To Date cannot be null")
+	private Date previousToDate;
+
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	@NotNull(message = "Current From Date cannot be null")
+	private Date currentFromDate;
+
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	@NotNull(message = "Current To Date cannot be null")
+	private Date currentToDate;
+
+	private Integer merchant;
+
+	private Integer acquirer;
+
+	public RefundsCompareRequest() {
+		super();
+	}
+
+	public RefundsCompareRequest(Date previousFromDate, Date previousToDate, Date currentFromDate, Date currentToDate,
+			Integer merchant, Integer acquirer) {
+		super();
+		this.previousFromDate = previousFromDate;
+		this.previousToDate = previousToDate;
+		this.currentFromDate = currentFromDate;
+		this.currentToDate = currentToDate;
+		this.merchant = merchant;
+		this.acquirer = acquirer;
+	}
+
+	public Date getPreviousFromDate() {
+		return previousFromDate;
+	}
+
+	public void setPreviousFromDate(Date previousFromDate) {
+		this.previousFromDate = previousFromDate;
+	}
+
+	public Date getPreviousToDate() {
+		return previousToDate;
+	}
+
+	public void setPreviousToDate(Date previousToDate) {
+		this.previousToDate = previousToDate;
+	}
+
+	public Date getCurrentFromDate() {
+		return currentFromDate;
+	}
+
+	public void setCurrentFromDate(Date currentFromDate) {
+		this.currentFromDate = currentFromDate;
+	}
+
+	public Date getCurrentToDate() {
+		return currentToDate;
+	}
+
+	public void setCurrentToDate(Date currentToDate) {
+		this.currentToDate = currentToDate;
+	}
+
+	public Integer getMerchant() {
+		return merchant;
+	}
+
+	public void setMerchant(Integer merchant) {
+		this.merchant = merchant;
+	}
+
+	public Integer getAcquirer() {
+		return acquirer;
+	}
+
+	public void setAcquirer(Integer acquirer) {
+		this.acquirer = acquirer;
+	}
+
+}
@@ -0,0 +1,114 @@
+package com.ozge.model.request;
+
+import java.util.Date;
+import java.util.List;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.ozge.aggregate.RefundMetric;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RefundsTopRequest {
+
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	@NotNull(message = "From Date cannot be null")
+	private Date fromDate;
+
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	@DateTimeFormat(pattern = "yyyy-MM-dd")
+	@NotNull(message = "To Date cannot be null")
+	private Date toDate;
+
+	@NotBlank(message = "Currency cannot be blank")
+	private String currency;
+
+	private RefundMetric by = RefundMetric.TOTAL;
+
+	private int limit = 10;
+
+	/**
+	 * Merchants to rank; the sub merchants of the token when empty.
+	 */
+	private List<Integer> merchants;
+
+	private Integer acquirer;
+
+	public RefundsTopRequest() {
+		super();
+	}
+
+	public RefundsTopRequest(Date fromDate, Date toDate, String currency, RefundMetric by, int limit, List<Integer> merchants,
+			Integer acquirer) {
+		super();
+		this.fromDate = fromDate;
+		this.toDate = toDate;
+		this.currency = currency;
+		this.by = by;
+		this.limit = limit;
+		this.merchants = merchants;
+		this.acquirer = acquirer;
+	}
+
+	public Date getFromDate() {
+		return fromDate;
+	}
+
+	public void setFromDate(Date fromDate) {
+		this.fromDate = fromDate;
+	}
+
+	public Date getToDate() {
+		return toDate;
+	}
+
+	public void setToDate(Date toDate) {
+		this.toDate = toDate;
+	}
+
+	public String getCurrency() {
+		return currency;
+	}
+
+	public void setCurrency(String currency) {
+		this.currency = currency;
+	}
+
+	public RefundMetric getBy() {
+		return by;
+	}
+
+	public void setBy(RefundMetric by) {
+		this.by = by;
+	}
+
+	public int getLimit() {
+		return limit;
+	}
+
+	public void setLimit(int limit) {
+		this.limit = limit;
+	}
+
+	public List<Integer> getMerchants() {
+		return merchants;
+	}
+
+	public void setMerchants(List<Integer> merchants) {
+		this.merchants = merchants;
+	}
+
+	public Integer getAcquirer() {
+		return acquirer;
+	}
+
+	public void setAcquirer(Integer acquirer) {
+		this.acquirer = acquirer;
+	}
+
+}
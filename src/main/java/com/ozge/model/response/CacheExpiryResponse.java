@@ -0,0 +1,24 @@
+package com.ozge.model.response;
+
+public class CacheExpiryResponse {
+
+	private int expired;
+
+	public CacheExpiryResponse() {
+		super();
+	}
+
+	public CacheExpiryResponse(int expired) {
+		super();
+		this.expired = expired;
+	}
+
+	public int getExpired() {
+		return expired;
+	}
+
+	public void setExpired(int expired) {
+		this.expired = expired;
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.ozge.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ozge.model.error.BaseError;
+
+/**
+ * Outcome of one transaction of a batched client information lookup: either its customer
+ * information or the error the lookup failed with.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClientBatchItem {
+
+	private String transactionId;
+
+	private Integer status;
+
+	private CustomerInfo customerInfo;
+
+	private BaseError error;
+
+	public ClientBatchItem() {
+		super();
+	}
+
+	public ClientBatchItem(String transactionId, Integer status, CustomerInfo customerInfo, BaseError error) {
+		super();
+		this.transactionId = transactionId;
+		this.status = status;
+		this.customerInfo = customerInfo;
+		this.error = error;
+	}
+
+	public static ClientBatchItem found(String transactionId, CustomerInfo customerInfo) {
+		return new ClientBatchItem(transactionId, 200, customerInfo, null);
+	}
+
+	public static ClientBatchItem failed(String transactionId, int status, BaseError error) {
+		return new ClientBatchItem(transactionId, status, null, error);
+	}
+
+	public String getTransactionId() {
+		return transactionId;
+	}
+
+	public void setTransactionId(String transactionId) {
+		this.transactionId = transactionId;
+	}
+
+	public Integer getStatus() {
+		return status;
+	}
+
+	public void setStatus(Integer status) {
+		this.status = status;
+	}
+
+	public CustomerInfo getCustomerInfo() {
+		return customerInfo;
+	}
+
+	public void setCustomerInfo(CustomerInfo customerInfo) {
+		this.customerInfo = customerInfo;
+	}
+
+	public BaseError getError() {
+		return error;
+	}
+
+	public void setError(BaseError error) {
+		this.error = error;
+	}
+
+}
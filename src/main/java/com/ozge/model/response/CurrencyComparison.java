@@ -0,0 +1,118 @@
+package com.ozge.model.response;
+
+/**
+ * Refunds of one currency in two ranges, with the change from the previous to the current
+ * one. Percentages are rounded to two decimals and left out when the previous figure is
+ * zero.
+ */
+public class CurrencyComparison {
+
+	private String currency;
+
+	private long previousCount;
+
+	private long previousTotal;
+
+	private long currentCount;
+
+	private long currentTotal;
+
+	private long countDelta;
+
+	private long totalDelta;
+
+	private Double countChangePercent;
+
+	private Double totalChangePercent;
+
+	public CurrencyComparison() {
+		super();
+	}
+
+	public CurrencyComparison(String currency, long previousCount, long previousTotal, long currentCount, long currentTotal,
+			long countDelta, long totalDelta, Double countChangePercent, Double totalChangePercent) {
+		super();
+		this.currency = currency;
+		this.previousCount = previousCount;
+		this.previousTotal = previousTotal;
+		this.currentCount = currentCount;
+		this.currentTotal = currentTotal;
+		this.countDelta = countDelta;
+		this.totalDelta = totalDelta;
+		this.countChangePercent = countChangePercent;
+		this.totalChangePercent = totalChangePercent;
+	}
+
+	public String getCurrency() {
+		return currency;
+	}
+
+	public void setCurrency(String currency) {
+		this.currency = currency;
+	}
+
+	public long getPreviousCount() {
+		return previousCount;
+	}
+
+	public void setPreviousCount(long previousCount) {
+		this.previousCount = previousCount;
+	}
+
+	public long getPreviousTotal() {
+		return previousTotal;
+	}
+
+	public void setPreviousTotal(long previousTotal) {
+		this.previousTotal = previousTotal;
+	}
+
+	public long getCurrentCount() {
+		return currentCount;
+	}
+
+	public void setCurrentCount(long currentCount) {
+		this.currentCount = currentCount;
+	}
+
+	public long getCurrentTotal() {
+		return currentTotal;
+	}
+
+	public void setCurrentTotal(long currentTotal) {
+		this.currentTotal = currentTotal;
+	}
+
+	public long getCountDelta() {
+		return countDelta;
+	}
+
+	public void setCountDelta(long countDelta) {
+		this.countDelta = countDelta;
+	}
+
+	public long getTotalDelta() {
+		return totalDelta;
+	}
+
+	public void setTotalDelta(long totalDelta) {
+		this.totalDelta = totalDelta;
+	}
+
+	public Double getCountChangePercent() {
+		return countChangePercent;
+	}
+
+	public void setCountChangePercent(Double countChangePercent) {
+		this.countChangePercent = countChangePercent;
+	}
+
+	public Double getTotalChangePercent() {
+		return totalChangePercent;
+	}
+
+	public void setTotalChangePercent(Double totalChangePercent) {
+		this.totalChangePercent = totalChangePercent;
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.ozge.model.response;
+
+/**
+ * Refund count and total of one currency per period of a series, in period order.
+ */
+public class CurrencySeries {
+
+	private String currency;
+
+	private int[] counts;
+
+	private long[] totals;
+
+	public CurrencySeries() {
+		super();
+	}
+
+	public CurrencySeries(String currency, int[] counts, long[] totals) {
+		super();
+		this.currency = currency;
+		this.counts = counts;
+		this.totals = totals;
+	}
+
+	public String getCurrency() {
+		return currency;
+	}
+
+	public void setCurrency(String currency) {
+		this.currency = currency;
+	}
+
+	public int[] getCounts() {
+		return counts;
+	}
+
+	public void setCounts(int[] counts) {
+		this.counts = counts;
+	}
+
+	public long[] getTotals() {
+		return totals;
+	}
+
+	public void setTotals(long[] totals) {
+		this.totals = totals;
+	}
+
+}
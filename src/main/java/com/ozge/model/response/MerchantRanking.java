@@ -0,0 +1,61 @@
+package com.ozge.model.response;
+
+/**
+ * Place of a merchant in a refund ranking, with its refund count and total in the ranked
+ * currency.
+ */
+public class MerchantRanking {
+
+	private int rank;
+
+	private Integer merchant;
+
+	private long count;
+
+	private long total;
+
+	public MerchantRanking() {
+		super();
+	}
+
+	public MerchantRanking(int rank, Integer merchant, long count, long total) {
+		super();
+		this.rank = rank;
+		this.merchant = merchant;
+		this.count = count;
+		this.total = total;
+	}
+
+	public int getRank() {
+		return rank;
+	}
+
+	public void setRank(int rank) {
+		this.rank = rank;
+	}
+
+	public Integer getMerchant() {
+		return merchant;
+	}
+
+	public void setMerchant(Integer merchant) {
+		this.merchant = merchant;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public void setCount(long count) {
+		this.count = count;
+	}
+
+	public long getTotal() {
+		return total;
+	}
+
+	public void setTotal(long total) {
+		this.total = total;
+	}
+
+}
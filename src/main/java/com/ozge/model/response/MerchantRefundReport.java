@@ -0,0 +1,40 @@
+package com.ozge.model.response;
+
+import java.util.List;
+
+/**
+ * Refunds of one merchant per currency, summed over the acquirers of an aggregation.
+ */
+public class MerchantRefundReport {
+
+	private Integer merchant;
+
+	private List<RefundReport> refunds;
+
+	public MerchantRefundReport() {
+		super();
+	}
+
+	public MerchantRefundReport(Integer merchant, List<RefundReport> refunds) {
+		super();
+		this.merchant = merchant;
+		this.refunds = refunds;
+	}
+
+	public Integer getMerchant() {
+		return merchant;
+	}
+
+	public void setMerchant(Integer merchant) {
+		this.merchant = merchant;
+	}
+
+	public List<RefundReport> getRefunds() {
+		return refunds;
+	}
+
+	public void setRefunds(List<RefundReport> refunds) {
+		this.refunds = refunds;
+	}
+
+}
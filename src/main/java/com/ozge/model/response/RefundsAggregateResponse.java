@@ -0,0 +1,65 @@
+package com.ozge.model.response;
+
+import java.util.List;
+
+/**
+ * Refunds of several merchants and acquirers: per merchant and currency, per currency, and
+ * the grand count over all of them. Amounts are only totalled per currency, as they cannot
+ * be added up across currencies.
+ */
+public class RefundsAggregateResponse {
+
+	private String status;
+
+	private List<MerchantRefundReport> merchants;
+
+	private List<RefundReport> currencies;
+
+	private Long count;
+
+	public RefundsAggregateResponse() {
+		super();
+	}
+
+	public RefundsAggregateResponse(String status, List<MerchantRefundReport> merchants, List<RefundReport> currencies,
+			Long count) {
+		super();
+		this.status = status;
+		this.merchants = merchants;
+		this.currencies = currencies;
+		this.count = count;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public List<MerchantRefundReport> getMerchants() {
+		return merchants;
+	}
+
+	public void setMerchants(List<MerchantRefundReport> merchants) {
+		this.merchants = merchants;
+	}
+
+	public List<RefundReport> getCurrencies() {
+		return currencies;
+	}
+
+	public void setCurrencies(List<RefundReport> currencies) {
+		this.currencies = currencies;
+	}
+
+	public Long getCount() {
+		return count;
+	}
+
+	public void setCount(Long count) {
+		this.count = count;
+	}
+
+}
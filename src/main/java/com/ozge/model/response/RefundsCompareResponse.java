@@ -0,0 +1,40 @@
+package com.ozge.model.response;
+
+import java.util.List;
+
+/**
+ * Refunds per currency of a current range compared with a previous one.
+ */
+public class RefundsCompareResponse {
+
+	private String status;
+
+	private List<CurrencyComparison> currencies;
+
+	public RefundsCompareResponse() {
+		super();
+	}
+
+	public RefundsCompareResponse(String status, List<CurrencyComparison> currencies) {
+		super();
+		this.status = status;
+		this.currencies = currencies;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public List<CurrencyComparison> getCurrencies() {
+		return currencies;
+	}
+
+	public void setCurrencies(List<CurrencyComparison> currencies) {
+		this.currencies = currencies;
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.ozge.model.response;
+
+import java.util.List;
+
+/**
+ * Refunds per currency of one period of a streamed refund series, named by its first day.
+ * Days the upstream returned no report for are counted as missing rather than as days
+ * without refunds.
+ */
+public class RefundsSeriesPeriod {
+
+	private String period;
+
+	private String status;
+
+	private List<RefundReport> refunds;
+
+	private int missingDays;
+
+	public RefundsSeriesPeriod() {
+		super();
+	}
+
+	public RefundsSeriesPeriod(String period, String status, List<RefundReport> refunds, int missingDays) {
+		super();
+		this.period = period;
+		this.status = status;
+		this.refunds = refunds;
+		this.missingDays = missingDays;
+	}
+
+	public String getPeriod() {
+		return period;
+	}
+
+	public void setPeriod(String period) {
+		this.period = period;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public List<RefundReport> getRefunds() {
+		return refunds;
+	}
+
+	public void setRefunds(List<RefundReport> refunds) {
+		this.refunds = refunds;
+	}
+
+	public int getMissingDays() {
+		return missingDays;
+	}
+
+	public void setMissingDays(int missingDays) {
+		this.missingDays = missingDays;
+	}
+
+}
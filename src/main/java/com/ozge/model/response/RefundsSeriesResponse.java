@@ -0,0 +1,65 @@
+package com.ozge.model.response;
+
+import java.util.List;
+
+import com.ozge.aggregate.Interval;
+
+/**
+ * Refunds of a date range per period: the first day of every period, and per currency
+ * the count and total of every period, zero where there were none.
+ */
+public class RefundsSeriesResponse {
+
+	private String status;
+
+	private Interval interval;
+
+	private List<String> periods;
+
+	private List<CurrencySeries> series;
+
+	public RefundsSeriesResponse() {
+		super();
+	}
+
+	public RefundsSeriesResponse(String status, Interval interval, List<String> periods, List<CurrencySeries> series) {
+		super();
+		this.status = status;
+		this.interval = interval;
+		this.periods = periods;
+		this.series = series;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public Interval getInterval() {
+		return interval;
+	}
+
+	public void setInterval(Interval interval) {
+		this.interval = interval;
+	}
+
+	public List<String> getPeriods() {
+		return periods;
+	}
+
+	public void setPeriods(List<String> periods) {
+		this.periods = periods;
+	}
+
+	public List<CurrencySeries> getSeries() {
+		return series;
+	}
+
+	public void setSeries(List<CurrencySeries> series) {
+		this.series = series;
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.ozge.model.response;
+
+import java.util.List;
+
+import com.ozge.aggregate.RefundMetric;
+
+/**
+ * Merchants with the highest refunds in one currency, and how many merchants were ranked.
+ */
+public class RefundsTopResponse {
+
+	private String status;
+
+	private String currency;
+
+	private RefundMetric by;
+
+	private int ranked;
+
+	private List<MerchantRanking> merchants;
+
+	public RefundsTopResponse() {
+		super();
+	}
+
+	public RefundsTopResponse(String status, String currency, RefundMetric by, int ranked, List<MerchantRanking> merchants) {
+		super();
+		this.status = status;
+		this.currency = currency;
+		this.by = by;
+		this.ranked = ranked;
+		this.merchants = merchants;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public String getCurrency() {
+		return currency;
+	}
+
+	public void setCurrency(String currency) {
+		this.currency = currency;
+	}
+
+	public RefundMetric getBy() {
+		return by;
+	}
+
+	public void setBy(RefundMetric by) {
+		this.by = by;
+	}
+
+	public int getRanked() {
+		return ranked;
+	}
+
+	public void setRanked(int ranked) {
+		this.ranked = ranked;
+	}
+
+	public List<MerchantRanking> getMerchants() {
+		return merchants;
+	}
+
+	public void setMerchants(List<MerchantRanking> merchants) {
+		this.merchants = merchants;
+	}
+
+}
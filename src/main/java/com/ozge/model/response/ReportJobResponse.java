@@ -0,0 +1,81 @@
+package com.ozge.model.response;
+
+import java.util.Objects;
+
+import com.ozge.job.ReportJob;
+
+/**
+ * State and progress of a refund report job. Progress is counted in the day and month
+ * buckets of the report range.
+ */
+public class ReportJobResponse {
+
+	private String id;
+
+	private ReportJob.State state;
+
+	private int bucketsDone;
+
+	private int bucketsTotal;
+
+	private String message;
+
+	public ReportJobResponse() {
+		super();
+	}
+
+	public ReportJobResponse(String id, ReportJob.State state, int bucketsDone, int bucketsTotal, String message) {
+		super();
+		this.id = id;
+		this.state = state;
+		this.bucketsDone = bucketsDone;
+		this.bucketsTotal = bucketsTotal;
+		this.message = message;
+	}
+
+	public static ReportJobResponse of(ReportJob reportJob) {
+		return new ReportJobResponse(reportJob.getId(), reportJob.getState(), reportJob.getBucketsDone(), reportJob.getBucketsTotal(),
+				Objects.isNull(reportJob.getFailure()) ? null : reportJob.getFailure().getMessage());
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public ReportJob.State getState() {
+		return state;
+	}
+
+	public void setState(ReportJob.State state) {
+		this.state = state;
+	}
+
+	public int getBucketsDone() {
+		return bucketsDone;
+	}
+
+	public void setBucketsDone(int bucketsDone) {
+		this.bucketsDone = bucketsDone;
+	}
+
+	public int getBucketsTotal() {
+		return bucketsTotal;
+	}
+
+	public void setBucketsTotal(int bucketsTotal) {
+		this.bucketsTotal = bucketsTotal;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public void setMessage(String message) {
+		this.message = message;
+	}
+
+}
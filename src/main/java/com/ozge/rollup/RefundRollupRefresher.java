@@ -0,0 +1,212 @@
+package com.ozge.rollup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.cache.DateBucket;
+import com.ozge.cache.RefundReportBucketCache;
+import com.ozge.configuration.properties.Refresh;
+import com.ozge.configuration.properties.RefreshJob;
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.model.request.Credentials;
+import com.ozge.model.request.RefundsReportRequest;
+import com.ozge.model.response.AuthToken;
+import com.ozge.model.response.RefundReportResponse;
+import com.ozge.service.ReportService;
+import com.ozge.service.UserService;
+import com.ozge.util.DateUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Keeps the recent refund days of the configured (merchant, acquirer) jobs current: every
+ * round fetches today and the trailing closed days of each job again, logged in with the
+ * configured account, and puts them into the {@link RefundReportBucketCache}, which passes
+ * closed days on to the rollup store. Jobs run on their own small executor so that a round
+ * never takes more upstream connections than its concurrency, and a job still running
+ * from the previous round is skipped. The lag of a job is the time since it last succeeded.
+ */
+@Component
+@ConditionalOnProperty(prefix = "report-refunds.refresh", name = "enabled", havingValue = "true")
+public class RefundRollupRefresher {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ReportService reportService;
+
+    private final UserService userService;
+
+    private final AuthorizationScopes authorizationScopes;
+
+    private final RefundReportBucketCache bucketCache;
+
+    private final Clock clock;
+
+    private final Executor executor;
+
+    private final TaskScheduler scheduler;
+
+    private final Credentials credentials;
+
+    private final Duration interval;
+
+    private final int trailingDays;
+
+    private final List<Job> jobs;
+
+    private ScheduledFuture<?> schedule;
+
+    @Autowired
+    public RefundRollupRefresher(@Qualifier("reportServiceImpl") ReportService reportService,
+                                 UserService userService,
+                                 AuthorizationScopes authorizationScopes,
+                                 RefundReportBucketCache bucketCache,
+                                 Clock clock,
+                                 MeterRegistry meterRegistry,
+                                 @Qualifier("reportRefreshExecutor") Executor executor,
+                                 @Qualifier("reportRefreshScheduler") TaskScheduler scheduler,
+                                 ReportServiceProperties properties) {
+        Refresh refresh = properties.getRefresh();
+
+        this.reportService = reportService;
+        this.userService = userService;
+        this.authorizationScopes = authorizationScopes;
+        this.bucketCache = bucketCache;
+        this.clock = clock;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        credentials = new Credentials();
+        credentials.setEmail(refresh.getEmail());
+        credentials.setPassword(refresh.getPassword());
+        interval = refresh.getInterval();
+        trailingDays = Math.max(0, refresh.getTrailingDays());
+        jobs = refresh.getJobs().stream()
+                .map(job -> new Job(job, clock.instant(), meterRegistry))
+                .collect(Collectors.toList());
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("Refunds refresh scheduled -> ( jobs : {} - interval : {} - trailing days : {} )", jobs.size(), interval, trailingDays);
+        schedule = scheduler.scheduleWithFixedDelay(this::refresh, interval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (Objects.nonNull(schedule)) {
+            schedule.cancel(false);
+        }
+    }
+
+    /**
+     * Hands every job that is not running yet over to the executor.
+     */
+    public void refresh() {
+
+        for (Job job : jobs) {
+            if (!job.running.compareAndSet(false, true)) {
+                job.skippedCounter.increment();
+                continue;
+            }
+
+            try {
+                executor.execute(() -> {
+                    try {
+                        refresh(job);
+                    } finally {
+                        job.running.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException exp) {
+                job.running.set(false);
+                job.skippedCounter.increment();
+            }
+        }
+
+    }
+
+    private void refresh(Job job) {
+
+        Integer merchant = job.refreshJob.getMerchant();
+        Integer acquirer = job.refreshJob.getAcquirer();
+
+        try {
+            String authToken = userService.login(credentials)
+                    .map(AuthToken::getToken)
+                    .orElseThrow(() -> new IllegalStateException("Refresh account could not log in"));
+
+            LocalDate today = LocalDate.now(clock);
+
+            for (LocalDate day = today.minusDays(trailingDays); !day.isAfter(today); day = day.plusDays(1)) {
+                DateBucket bucket = DateBucket.day(day);
+                RefundsReportRequest refundsReportRequest = new RefundsReportRequest(DateUtils.toDate(day), DateUtils.toDate(day), merchant, acquirer);
+                RefundReportResponse refundReportResponse = reportService.getRefundsReport(refundsReportRequest, authToken).orElse(null);
+
+                if (Objects.nonNull(refundReportResponse)) {
+                    bucketCache.put(authorizationScopes.verify(authToken), merchant, acquirer, bucket, refundReportResponse);
+                }
+            }
+
+            job.refreshedAt = clock.instant();
+            job.succeededCounter.increment();
+        } catch (RuntimeException exp) {
+            job.failedCounter.increment();
+            log.warn("Refunds refresh failed -> ( merchant : {} - acquirer : {} ) - message : {}", merchant, acquirer, exp.getMessage());
+        }
+
+    }
+
+    private final class Job {
+
+        private final RefreshJob refreshJob;
+
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        private final Counter succeededCounter;
+
+        private final Counter failedCounter;
+
+        private final Counter skippedCounter;
+
+        private volatile Instant refreshedAt;
+
+        private Job(RefreshJob refreshJob, Instant startedAt, MeterRegistry meterRegistry) {
+            String merchant = Objects.isNull(refreshJob.getMerchant()) ? "all" : String.valueOf(refreshJob.getMerchant());
+            String acquirer = Objects.isNull(refreshJob.getAcquirer()) ? "all" : String.valueOf(refreshJob.getAcquirer());
+
+            this.refreshJob = refreshJob;
+            // a job that never succeeded lags since the refresh started
+            refreshedAt = startedAt;
+            succeededCounter = meterRegistry.counter("report.refresh.runs", "merchant", merchant, "acquirer", acquirer, "result", "success");
+            failedCounter = meterRegistry.counter("report.refresh.runs", "merchant", merchant, "acquirer", acquirer, "result", "failure");
+            skippedCounter = meterRegistry.counter("report.refresh.runs", "merchant", merchant, "acquirer", acquirer, "result", "skipped");
+            meterRegistry.gauge("report.refresh.lag.seconds", Tags.of("merchant", merchant, "acquirer", acquirer), this,
+                    job -> Duration.between(job.refreshedAt, clock.instant()).getSeconds());
+        }
+
+    }
+
+}
@@ -0,0 +1,578 @@
+package com.ozge.rollup;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.configuration.properties.Rollup;
+import com.ozge.model.response.RefundReport;
+import com.ozge.model.response.RefundReportResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Refund reports of closed days per (scope, merchant, acquirer, currency), held in memory
+ * and in an append-only segment file mapped into memory, so that they survive restarts.
+ * <p>
+ * A day is written as one fixed-size record per currency followed by a record closing
+ * the day with the status of the report, each with a CRC of its content. Replay at startup
+ * stops at the first record that does not check out, and only takes the days whose
+ * closing record was read; the rest of an interrupted write is overwritten by the next
+ * one. Once the segment is full it is rewritten with the latest report of every day,
+ * leaving out the oldest days if those alone would fill most of it; the days left out are
+ * logged and counted.
+ */
+@Component
+@ConditionalOnProperty(prefix = "report-refunds.rollup", name = "enabled", havingValue = "true")
+public class RefundRollupStore implements Closeable {
+
+	static final int HEADER_BYTES = 16;
+
+	static final int RECORD_BYTES = 48;
+
+	private static final int MAGIC = 0x52524f4c;
+
+	private static final int VERSION = 1;
+
+	private static final int ROW = 1;
+
+	private static final int DAY = 2;
+
+	private static final int EXPIRED = 3;
+
+	private static final int NONE = Integer.MIN_VALUE;
+
+	// segments written before statuses were kept only hold days the upstream approved
+	private static final String APPROVED = "APPROVED";
+
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	private final Map<DayKey, DayRollup> days = new ConcurrentHashMap<>();
+
+	private final Path file;
+
+	private final int capacity;
+
+	private final MeterRegistry meterRegistry;
+
+	private FileChannel channel;
+
+	private MappedByteBuffer segment;
+
+	// written under the lock, read by the gauge without it
+	private volatile int position;
+
+	@Autowired
+	public RefundRollupStore(MeterRegistry meterRegistry, ReportServiceProperties properties) {
+		Rollup rollup = properties.getRollup();
+		long records = (Math.min(Integer.MAX_VALUE, rollup.getMaxBytes()) - HEADER_BYTES) / RECORD_BYTES;
+
+		if (!StringUtils.hasText(rollup.getFile())) {
+			throw new IllegalStateException("Refund rollup is enabled without report-refunds.rollup.file");
+		}
+
+		file = Paths.get(rollup.getFile());
+		capacity = HEADER_BYTES + (int) Math.max(64, records) * RECORD_BYTES;
+		this.meterRegistry = meterRegistry;
+
+		try {
+			map();
+			replay();
+		} catch (IOException exp) {
+			throw new UncheckedIOException("Refund rollup segment cannot be opened: " + file, exp);
+		}
+
+		meterRegistry.gaugeMapSize("report.rollup.days", Tags.empty(), days);
+		meterRegistry.gauge("report.rollup.bytes", this, store -> store.position);
+	}
+
+	/**
+	 * Sums the reports of every day of [fromDate, toDate], if all of them are stored.
+	 */
+	public Optional<RefundReportResponse> get(String scope, Integer merchant, Integer acquirer, LocalDate fromDate, LocalDate toDate) {
+
+		long scopeHash = hash(scope);
+		String status = null;
+		Map<String, RefundReport> refundReports = new LinkedHashMap<>();
+
+		for (LocalDate day = fromDate; !day.isAfter(toDate); day = day.plusDays(1)) {
+			DayRollup dayRollup = days.get(new DayKey(scopeHash, day, merchant, acquirer));
+
+			if (Objects.isNull(dayRollup)) {
+				meterRegistry.counter("report.rollup.requests", "result", "miss").increment();
+				return Optional.empty();
+			}
+
+			if (Objects.isNull(status)) {
+				status = dayRollup.status;
+			}
+
+			for (int i = 0; i < dayRollup.currencies.length; i++) {
+				RefundReport refundReport = refundReports.computeIfAbsent(dayRollup.currencies[i], currency -> new RefundReport(0, 0L, currency));
+				refundReport.setCount(refundReport.getCount() + dayRollup.counts[i]);
+				refundReport.setTotal(refundReport.getTotal() + dayRollup.totals[i]);
+			}
+		}
+
+		meterRegistry.counter("report.rollup.requests", "result", "hit").increment();
+
+		return Optional.of(new RefundReportResponse(status, new ArrayList<>(refundReports.values())));
+
+	}
+
+	/**
+	 * Stores the report of a closed day with its status, as the bucket cache keeps it.
+	 * Reports without a status, or with a status or a currency longer than eight ASCII
+	 * characters, are not stored.
+	 */
+	public synchronized void put(String scope, Integer merchant, Integer acquirer, LocalDate day, RefundReportResponse refundReportResponse) {
+
+		String status = refundReportResponse.getStatus();
+
+		if (Objects.isNull(status) || encode(status) == -1L) {
+			return;
+		}
+
+		List<RefundReport> refundReports = Objects.isNull(refundReportResponse.getRefundReports())
+				? Collections.emptyList() : refundReportResponse.getRefundReports();
+		DayRollup dayRollup = new DayRollup(status, refundReports.size());
+
+		for (int i = 0; i < refundReports.size(); i++) {
+			RefundReport refundReport = refundReports.get(i);
+
+			if (encode(refundReport.getCurrency()) == -1L) {
+				return;
+			}
+
+			dayRollup.currencies[i] = refundReport.getCurrency();
+			dayRollup.counts[i] = Objects.isNull(refundReport.getCount()) ? 0 : refundReport.getCount();
+			dayRollup.totals[i] = Objects.isNull(refundReport.getTotal()) ? 0L : refundReport.getTotal();
+		}
+
+		DayKey key = new DayKey(hash(scope), day, merchant, acquirer);
+
+		if (ensureRoom((dayRollup.currencies.length + 1) * RECORD_BYTES)) {
+			position = write(segment, position, key, dayRollup);
+		}
+
+		days.put(key, dayRollup);
+
+	}
+
+	/**
+	 * Drops the stored days of [fromDate, toDate], of all scopes.
+	 *
+	 * @return the number of dropped days
+	 */
+	public synchronized int expire(LocalDate fromDate, LocalDate toDate) {
+
+		long from = fromDate.toEpochDay();
+		long to = toDate.toEpochDay();
+		List<DayKey> expired = new ArrayList<>();
+
+		for (DayKey key : days.keySet()) {
+			if (key.day >= from && key.day <= to) {
+				expired.add(key);
+			}
+		}
+
+		for (DayKey key : expired) {
+			if (ensureRoom(RECORD_BYTES)) {
+				position = writeRecord(segment, position, EXPIRED, key, 0L, 0, 0L);
+			}
+			days.remove(key);
+		}
+
+		return expired.size();
+
+	}
+
+	public int size() {
+		return days.size();
+	}
+
+	/**
+	 * Bytes of the segment taken by the header and written records.
+	 */
+	public int bytes() {
+		return position;
+	}
+
+	@Override
+	@PreDestroy
+	public synchronized void close() throws IOException {
+		segment.force();
+		channel.close();
+	}
+
+	private void map() throws IOException {
+		if (Objects.nonNull(file.getParent())) {
+			Files.createDirectories(file.getParent());
+		}
+
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		// mapping beyond the end of the file grows it, a truncated record reads as zeros
+		segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+	}
+
+	private void replay() {
+
+		if (segment.getInt(0) != MAGIC || segment.getInt(4) != VERSION || segment.getInt(8) != RECORD_BYTES) {
+			if (segment.getInt(0) != 0) {
+				log.warn("Refund rollup segment has an unknown format and is started over -> {}", file);
+			}
+			clear(0, capacity);
+			writeHeader(segment);
+			position = HEADER_BYTES;
+			return;
+		}
+
+		Map<DayKey, List<Row>> pending = new HashMap<>();
+		int committed = HEADER_BYTES;
+		int offset = HEADER_BYTES;
+
+		for (; offset + RECORD_BYTES <= capacity; offset += RECORD_BYTES) {
+			int type = segment.getInt(offset + 4);
+
+			if (type == 0 || segment.getInt(offset) != crc(segment, offset)) {
+				break;
+			}
+
+			DayKey key = new DayKey(segment.getLong(offset + 8), segment.getInt(offset + 16), segment.getInt(offset + 20), segment.getInt(offset + 24));
+
+			if (type == ROW) {
+				pending.computeIfAbsent(key, rowKey -> new ArrayList<>())
+						.add(new Row(decode(segment.getLong(offset + 32)), segment.getInt(offset + 28), segment.getLong(offset + 40)));
+				continue;
+			}
+
+			if (type == DAY) {
+				List<Row> rows = pending.getOrDefault(key, Collections.emptyList());
+				pending.remove(key);
+
+				if (rows.size() == segment.getInt(offset + 28)) {
+					String status = decode(segment.getLong(offset + 32));
+					days.put(key, DayRollup.of(Objects.isNull(status) ? APPROVED : status, rows));
+				}
+			} else if (type == EXPIRED) {
+				days.remove(key);
+			}
+
+			committed = offset + RECORD_BYTES;
+		}
+
+		// whatever follows the last complete write was interrupted and is overwritten next
+		clear(committed, Math.min(capacity, offset + RECORD_BYTES));
+		position = committed;
+
+		if (offset != committed || !pending.isEmpty()) {
+			log.warn("Refund rollup segment recovered from an interrupted write -> ( file : {} - dropped bytes : {} )",
+					file, offset - committed);
+		}
+
+		log.info("Refund rollup segment replayed -> ( file : {} - days : {} - bytes : {} )", file, days.size(), position);
+
+	}
+
+	/**
+	 * Makes room for the given bytes at the end of the segment, compacting it if needed.
+	 *
+	 * @return false if the bytes cannot be written
+	 */
+	private boolean ensureRoom(int bytes) {
+
+		if (position + bytes <= capacity) {
+			return true;
+		}
+
+		try {
+			compact(bytes);
+		} catch (IOException exp) {
+			log.error("Refund rollup segment cannot be compacted -> ( file : {} ) - message : {}", file, exp.getMessage());
+			return false;
+		}
+
+		return position + bytes <= capacity;
+
+	}
+
+	private void compact(int needed) throws IOException {
+
+		List<Map.Entry<DayKey, DayRollup>> live = new ArrayList<>(days.entrySet());
+		live.sort(Comparator.comparingInt((Map.Entry<DayKey, DayRollup> entry) -> entry.getKey().day).reversed());
+
+		// newest days first, up to three quarters of the segment so that compactions stay rare
+		long budget = (capacity - HEADER_BYTES) * 3L / 4 - needed;
+		List<Map.Entry<DayKey, DayRollup>> kept = new ArrayList<>();
+		List<DayKey> dropped = new ArrayList<>();
+
+		for (Map.Entry<DayKey, DayRollup> entry : live) {
+			long bytes = (entry.getValue().currencies.length + 1L) * RECORD_BYTES;
+
+			if (bytes <= budget) {
+				kept.add(entry);
+				budget -= bytes;
+			} else {
+				dropped.add(entry.getKey());
+			}
+		}
+
+		Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+		int offset = HEADER_BYTES;
+
+		try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer buffer = target.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+			writeHeader(buffer);
+
+			for (int i = kept.size() - 1; i >= 0; i--) {
+				offset = write(buffer, offset, kept.get(i).getKey(), kept.get(i).getValue());
+			}
+
+			buffer.force();
+		}
+
+		segment.force();
+		channel.close();
+		Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		map();
+
+		dropped.forEach(days::remove);
+		position = offset;
+
+		meterRegistry.counter("report.rollup.compactions").increment();
+		meterRegistry.counter("report.rollup.dropped.days").increment(dropped.size());
+
+		if (dropped.isEmpty()) {
+			log.info("Refund rollup segment compacted -> ( file : {} - days : {} - bytes : {} )", file, kept.size(), position);
+		} else {
+			log.warn("Refund rollup segment is full, oldest days dropped -> ( file : {} - days : {} - dropped days : {} - bytes : {} )",
+					file, kept.size(), dropped.size(), position);
+		}
+
+	}
+
+	private void clear(int from, int to) {
+		for (int offset = from; offset < to; offset++) {
+			segment.put(offset, (byte) 0);
+		}
+	}
+
+	private static void writeHeader(ByteBuffer buffer) {
+		buffer.putInt(0, MAGIC);
+		buffer.putInt(4, VERSION);
+		buffer.putInt(8, RECORD_BYTES);
+		buffer.putInt(12, 0);
+	}
+
+	/**
+	 * Writes the rows of the day and then the record closing it, so that a day is replayed
+	 * only if all of its rows were written.
+	 */
+	private static int write(ByteBuffer buffer, int offset, DayKey key, DayRollup dayRollup) {
+
+		for (int i = 0; i < dayRollup.currencies.length; i++) {
+			offset = writeRecord(buffer, offset, ROW, key, encode(dayRollup.currencies[i]), dayRollup.counts[i], dayRollup.totals[i]);
+		}
+
+		return writeRecord(buffer, offset, DAY, key, encode(dayRollup.status), dayRollup.currencies.length, 0L);
+
+	}
+
+	private static int writeRecord(ByteBuffer buffer, int offset, int type, DayKey key, long currency, int count, long total) {
+		buffer.putInt(offset + 4, type);
+		buffer.putLong(offset + 8, key.scope);
+		buffer.putInt(offset + 16, key.day);
+		buffer.putInt(offset + 20, key.merchant);
+		buffer.putInt(offset + 24, key.acquirer);
+		buffer.putInt(offset + 28, count);
+		buffer.putLong(offset + 32, currency);
+		buffer.putLong(offset + 40, total);
+		buffer.putInt(offset, crc(buffer, offset));
+		return offset + RECORD_BYTES;
+	}
+
+	private static int crc(ByteBuffer buffer, int offset) {
+		ByteBuffer record = buffer.duplicate();
+		record.limit(offset + RECORD_BYTES).position(offset + 4);
+
+		CRC32 crc = new CRC32();
+		crc.update(record);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Packs a currency or a status of up to eight ASCII characters into a long, 0 for none
+	 * and -1 if it does not fit.
+	 */
+	private static long encode(String currency) {
+
+		if (Objects.isNull(currency)) {
+			return 0L;
+		}
+		if (currency.isEmpty() || currency.length() > 8) {
+			return -1L;
+		}
+
+		long encoded = 0L;
+
+		for (int i = 0; i < 8; i++) {
+			char character = i < currency.length() ? currency.charAt(i) : 0;
+			if (character > 127 || (character == 0 && i < currency.length())) {
+				return -1L;
+			}
+			encoded = encoded << 8 | character;
+		}
+
+		return encoded;
+
+	}
+
+	private static String decode(long currency) {
+
+		if (currency == 0L) {
+			return null;
+		}
+
+		byte[] bytes = new byte[8];
+		int length = 0;
+
+		for (int shift = 56; shift >= 0 && ((currency >>> shift) & 0xff) != 0; shift -= 8) {
+			bytes[length++] = (byte) (currency >>> shift);
+		}
+
+		return new String(bytes, 0, length, StandardCharsets.US_ASCII);
+
+	}
+
+	private static long hash(String scope) {
+		try {
+			return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(scope.getBytes(StandardCharsets.UTF_8))).getLong();
+		} catch (NoSuchAlgorithmException exp) {
+			throw new IllegalStateException(exp);
+		}
+	}
+
+	private static final class DayKey {
+
+		private final long scope;
+
+		private final int day;
+
+		private final int merchant;
+
+		private final int acquirer;
+
+		private DayKey(long scope, LocalDate day, Integer merchant, Integer acquirer) {
+			this(scope, (int) day.toEpochDay(), Objects.isNull(merchant) ? NONE : merchant, Objects.isNull(acquirer) ? NONE : acquirer);
+		}
+
+		private DayKey(long scope, int day, int merchant, int acquirer) {
+			this.scope = scope;
+			this.day = day;
+			this.merchant = merchant;
+			this.acquirer = acquirer;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof DayKey)) {
+				return false;
+			}
+			DayKey that = (DayKey) o;
+			return scope == that.scope && day == that.day && merchant == that.merchant && acquirer == that.acquirer;
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = Long.hashCode(scope);
+			hash = 31 * hash + day;
+			hash = 31 * hash + merchant;
+			return 31 * hash + acquirer;
+		}
+
+	}
+
+	private static final class DayRollup {
+
+		private final String status;
+
+		private final String[] currencies;
+
+		private final int[] counts;
+
+		private final long[] totals;
+
+		private DayRollup(String status, int size) {
+			this.status = status;
+			currencies = new String[size];
+			counts = new int[size];
+			totals = new long[size];
+		}
+
+		private static DayRollup of(String status, List<Row> rows) {
+			DayRollup dayRollup = new DayRollup(status, rows.size());
+			for (int i = 0; i < rows.size(); i++) {
+				dayRollup.currencies[i] = rows.get(i).currency;
+				dayRollup.counts[i] = rows.get(i).count;
+				dayRollup.totals[i] = rows.get(i).total;
+			}
+			return dayRollup;
+		}
+
+	}
+
+	private static final class Row {
+
+		private final String currency;
+
+		private final int count;
+
+		private final long total;
+
+		private Row(String currency, int count, long total) {
+			this.currency = currency;
+			this.count = count;
+			this.total = total;
+		}
+
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.ozge.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import com.ozge.model.request.ClientRequest;
+import com.ozge.model.response.ClientBatchItem;
+
+public interface ClientBatchService {
+
+	/**
+	 * Looks the transactions up concurrently, handing every outcome to the consumer as soon
+	 * as it is known. The returned future completes once every transaction was handed over.
+	 */
+	CompletableFuture<Void> getClientInformation(List<ClientRequest> clientRequests, String authToken,
+			Consumer<ClientBatchItem> consumer);
+
+}
@@ -0,0 +1,26 @@
+package com.ozge.service;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.ozge.model.request.MerchantUserRequest;
+import com.ozge.model.request.RefundsReportRequest;
+
+/**
+ * Relays upstream responses to the client byte for byte, with their status and content
+ * headers. The upstream is called before the relayed response is returned, so erroneous
+ * upstream responses are thrown before anything is written, like the other services do,
+ * and leave the response to RestExceptionHandler. The returned body copies the open
+ * upstream body once it is written, and releases it.
+ */
+public interface PassThroughService {
+
+    boolean isRefundsReportEnabled();
+
+    boolean isMerchantUserInformationEnabled();
+
+    ResponseEntity<StreamingResponseBody> relayRefundsReport(RefundsReportRequest refundsReportRequest, String authToken);
+
+    ResponseEntity<StreamingResponseBody> relayMerchantUserInformation(MerchantUserRequest merchantUserRequest, String authToken);
+
+}
@@ -0,0 +1,12 @@
+package com.ozge.service;
+
+import com.ozge.model.request.ClientRequest;
+import com.ozge.model.response.ClientResponse;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveClientService {
+
+	Mono<ClientResponse> getClientInformation(ClientRequest clientRequest, String authToken);
+
+}
@@ -0,0 +1,12 @@
+package com.ozge.service;
+
+import com.ozge.model.request.RefundsReportRequest;
+import com.ozge.model.response.RefundReportResponse;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveReportService {
+
+    Mono<RefundReportResponse> getRefundsReport(RefundsReportRequest refundsReportRequest, String authToken);
+
+}
@@ -0,0 +1,16 @@
+package com.ozge.service;
+
+import com.ozge.model.request.Credentials;
+import com.ozge.model.request.MerchantUserRequest;
+import com.ozge.model.response.AuthToken;
+import com.ozge.model.response.MerchantUserInfoResponse;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserService {
+
+    Mono<AuthToken> login(Credentials credentials);
+
+    Mono<MerchantUserInfoResponse> getMerchantUserInformation(MerchantUserRequest merchantUserRequest, String authToken);
+
+}
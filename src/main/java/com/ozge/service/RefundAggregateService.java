@@ -0,0 +1,16 @@
+package com.ozge.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.ozge.model.request.RefundsAggregateRequest;
+import com.ozge.model.response.RefundsAggregateResponse;
+
+public interface RefundAggregateService {
+
+	/**
+	 * Queries the refunds report of every requested merchant and acquirer combination
+	 * concurrently and sums them up. The returned future fails with the first failing query.
+	 */
+	CompletableFuture<RefundsAggregateResponse> getRefundsAggregate(RefundsAggregateRequest refundsAggregateRequest, String authToken);
+
+}
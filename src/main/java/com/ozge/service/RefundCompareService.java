@@ -0,0 +1,17 @@
+package com.ozge.service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.ozge.model.request.RefundsCompareRequest;
+import com.ozge.model.response.RefundsCompareResponse;
+
+public interface RefundCompareService {
+
+	/**
+	 * Queries the refunds report of both ranges concurrently and compares them per currency.
+	 * The comparison is empty when the upstream answered either range without a report.
+	 */
+	CompletableFuture<Optional<RefundsCompareResponse>> getRefundsComparison(RefundsCompareRequest refundsCompareRequest, String authToken);
+
+}
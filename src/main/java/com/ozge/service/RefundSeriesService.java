@@ -0,0 +1,33 @@
+package com.ozge.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import com.ozge.model.request.RefundsSeriesRequest;
+import com.ozge.model.response.RefundsSeriesPeriod;
+import com.ozge.model.response.RefundsSeriesResponse;
+
+public interface RefundSeriesService {
+
+	/**
+	 * Builds the refund series of the range from its day and month reports, fetching those that
+	 * are not cached concurrently. The returned future fails with the first failing fetch.
+	 */
+	CompletableFuture<RefundsSeriesResponse> getRefundsSeries(RefundsSeriesRequest refundsSeriesRequest, String authToken);
+
+	/**
+	 * Fails with a {@link com.ozge.exception.QueryLimitExceededException} when the range of
+	 * the series is longer than allowed, so that a stream can be refused before it starts.
+	 */
+	void checkRefundsSeries(RefundsSeriesRequest refundsSeriesRequest);
+
+	/**
+	 * Hands the periods of the range over to the consumer in order, on the calling thread,
+	 * resolving only a window of days at a time. The next window is resolved once the
+	 * consumer took the periods of the last one, so a slow consumer holds the series back
+	 * rather than having periods pile up. Returns once every period was handed over and
+	 * throws the first failure.
+	 */
+	void streamRefundsSeries(RefundsSeriesRequest refundsSeriesRequest, String authToken, Consumer<RefundsSeriesPeriod> consumer);
+
+}
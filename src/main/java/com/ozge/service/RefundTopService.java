@@ -0,0 +1,17 @@
+package com.ozge.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.ozge.model.request.RefundsTopRequest;
+import com.ozge.model.response.RefundsTopResponse;
+
+public interface RefundTopService {
+
+	/**
+	 * Ranks the requested merchants, or the sub merchants of the token, by their refunds in
+	 * the currency, querying their reports concurrently. The returned future fails with the
+	 * first failing query.
+	 */
+	CompletableFuture<RefundsTopResponse> getRefundsTop(RefundsTopRequest refundsTopRequest, String authToken);
+
+}
@@ -0,0 +1,21 @@
+package com.ozge.service;
+
+import java.util.Optional;
+
+import com.ozge.job.ReportJob;
+import com.ozge.model.request.RefundsReportRequest;
+
+public interface ReportJobService {
+
+	/**
+	 * Queues the refund report, or returns the running job of an identical report of the
+	 * same token scope. Fails with a JobQueueFullException when no job can be taken.
+	 */
+	ReportJob submit(RefundsReportRequest refundsReportRequest, String authToken);
+
+	/**
+	 * Returns the job when it exists, has not expired and the token may read it.
+	 */
+	Optional<ReportJob> getJob(String id, String authToken);
+
+}
@@ -0,0 +1,34 @@
+package com.ozge.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.ozge.model.request.ClientRequest;
+import com.ozge.model.response.ClientResponse;
+import com.ozge.service.ClientService;
+import com.ozge.service.ReactiveClientService;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Exposes the {@link ClientService} through the reactive contract. The upstream call
+ * still runs on the subscribing (request) thread.
+ */
+@Service
+@ConditionalOnProperty(prefix = "services", name = "mode", havingValue = "blocking", matchIfMissing = true)
+public class BlockingReactiveClientServiceImpl implements ReactiveClientService {
+
+	private final ClientService clientService;
+
+	@Autowired
+	public BlockingReactiveClientServiceImpl(ClientService clientService) {
+		this.clientService = clientService;
+	}
+
+	@Override
+	public Mono<ClientResponse> getClientInformation(ClientRequest clientRequest, String authToken) {
+		return Mono.defer(() -> Mono.justOrEmpty(clientService.getClientInformation(clientRequest, authToken)));
+	}
+
+}
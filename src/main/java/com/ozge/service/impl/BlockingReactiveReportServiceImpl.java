@@ -0,0 +1,34 @@
+package com.ozge.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.ozge.model.request.RefundsReportRequest;
+import com.ozge.model.response.RefundReportResponse;
+import com.ozge.service.ReactiveReportService;
+import com.ozge.service.ReportService;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Exposes the {@link ReportService} through the reactive contract. The upstream call
+ * still runs on the subscribing (request) thread.
+ */
+@Service
+@ConditionalOnProperty(prefix = "services", name = "mode", havingValue = "blocking", matchIfMissing = true)
+public class BlockingReactiveReportServiceImpl implements ReactiveReportService {
+
+    private final ReportService reportService;
+
+    @Autowired
+    public BlockingReactiveReportServiceImpl(ReportService reportService) {
+        this.reportService = reportService;
+    }
+
+    @Override
+    public Mono<RefundReportResponse> getRefundsReport(RefundsReportRequest refundsReportRequest, String authToken) {
+        return Mono.defer(() -> Mono.justOrEmpty(reportService.getRefundsReport(refundsReportRequest, authToken)));
+    }
+
+}
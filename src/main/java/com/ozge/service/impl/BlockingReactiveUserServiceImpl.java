@@ -0,0 +1,41 @@
+package com.ozge.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.ozge.model.request.Credentials;
+import com.ozge.model.request.MerchantUserRequest;
+import com.ozge.model.response.AuthToken;
+import com.ozge.model.response.MerchantUserInfoResponse;
+import com.ozge.service.ReactiveUserService;
+import com.ozge.service.UserService;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Exposes the {@link UserService} through the reactive contract. The upstream calls
+ * still run on the subscribing (request) thread.
+ */
+@Service
+@ConditionalOnProperty(prefix = "services", name = "mode", havingValue = "blocking", matchIfMissing = true)
+public class BlockingReactiveUserServiceImpl implements ReactiveUserService {
+
+    private final UserService userService;
+
+    @Autowired
+    public BlockingReactiveUserServiceImpl(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public Mono<AuthToken> login(Credentials credentials) {
+        return Mono.defer(() -> Mono.justOrEmpty(userService.login(credentials)));
+    }
+
+    @Override
+    public Mono<MerchantUserInfoResponse> getMerchantUserInformation(MerchantUserRequest merchantUserRequest, String authToken) {
+        return Mono.defer(() -> Mono.justOrEmpty(userService.getMerchantUserInformation(merchantUserRequest, authToken)));
+    }
+
+}
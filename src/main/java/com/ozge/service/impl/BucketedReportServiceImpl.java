@@ -0,0 +1,160 @@
+package com.ozge.service.impl;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.cache.DateBucket;
+import com.ozge.cache.RefundReportBucketCache;
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.model.request.RefundsReportRequest;
+import com.ozge.model.response.RefundReportResponse;
+import com.ozge.service.ReportService;
+import com.ozge.util.DateUtils;
+import com.ozge.util.RefundReportUtils;
+
+/**
+ * Answers refund reports from cached day and month buckets, fetching only the buckets
+ * that are missing or expired. Ranges needing more than the configured number of
+ * upstream calls are passed through unchanged.
+ */
+@Primary
+@Service
+public class BucketedReportServiceImpl implements ReportService {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ReportService reportService;
+
+    private final RefundReportBucketCache bucketCache;
+
+    private final AuthorizationScopes authorizationScopes;
+
+    private final Clock clock;
+
+    private final boolean enabled;
+
+    private final int maxBucketFetches;
+
+    @Autowired
+    public BucketedReportServiceImpl(@Qualifier("reportServiceImpl") ReportService reportService,
+                                     RefundReportBucketCache bucketCache,
+                                     AuthorizationScopes authorizationScopes,
+                                     Clock clock,
+                                     ReportServiceProperties properties) {
+        this.reportService = reportService;
+        this.bucketCache = bucketCache;
+        this.authorizationScopes = authorizationScopes;
+        this.clock = clock;
+        enabled = properties.getCache().isEnabled();
+        maxBucketFetches = properties.getCache().getMaxBucketFetches();
+    }
+
+    @Override
+    public Optional<RefundReportResponse> getRefundsReport(RefundsReportRequest refundsReportRequest, String authToken) {
+
+        if (!enabled || Objects.isNull(refundsReportRequest.getFromDate()) || Objects.isNull(refundsReportRequest.getToDate())) {
+            return reportService.getRefundsReport(refundsReportRequest, authToken);
+        }
+
+        LocalDate fromDate = DateUtils.toLocalDate(refundsReportRequest.getFromDate());
+        LocalDate toDate = DateUtils.toLocalDate(refundsReportRequest.getToDate());
+
+        if (fromDate.isAfter(toDate)) {
+            return reportService.getRefundsReport(refundsReportRequest, authToken);
+        }
+
+        Integer merchant = refundsReportRequest.getMerchant();
+        Integer acquirer = refundsReportRequest.getAcquirer();
+        LocalDate today = LocalDate.now(clock);
+
+        List<DateBucket> buckets = DateBucket.split(fromDate, toDate);
+        int openIndex = 0;
+
+        while (openIndex < buckets.size() && buckets.get(openIndex).isClosed(today)) {
+            openIndex++;
+        }
+
+        // today followed by future days is fetched with a single upstream call and not cached
+        boolean openRange = buckets.size() - openIndex > 1;
+        List<DateBucket> cacheableBuckets = openRange ? buckets.subList(0, openIndex) : buckets;
+
+        String scope = authorizationScopes.verifiedScope(authToken).orElse(null);
+        RefundReportResponse[] cached = new RefundReportResponse[cacheableBuckets.size()];
+        int fetches = openRange ? 1 : 0;
+
+        for (int i = 0; i < cached.length; i++) {
+            cached[i] = Objects.isNull(scope) ? null : bucketCache.get(scope, merchant, acquirer, cacheableBuckets.get(i)).orElse(null);
+            fetches += Objects.isNull(cached[i]) ? 1 : 0;
+        }
+
+        log.debug("Refunds report buckets -> ( buckets : {} - open range : {} - upstream calls : {} )",
+                buckets.size(), openRange, fetches);
+
+        if (fetches > maxBucketFetches) {
+            Optional<RefundReportResponse> refundReportResponse = reportService.getRefundsReport(refundsReportRequest, authToken);
+            refundReportResponse.ifPresent(response -> authorizationScopes.verify(authToken));
+            return refundReportResponse;
+        }
+
+        List<RefundReportResponse> refundReportResponses = new ArrayList<>();
+        String verifiedScope = scope;
+
+        if (openRange) {
+            Optional<RefundReportResponse> refundReportResponse = fetch(buckets.get(openIndex).getFrom(), toDate, merchant, acquirer, authToken);
+
+            if (!refundReportResponse.isPresent()) {
+                return Optional.empty();
+            }
+
+            verifiedScope = authorizationScopes.verify(authToken);
+            refundReportResponses.add(refundReportResponse.get());
+        }
+
+        for (int i = 0; i < cached.length; i++) {
+            DateBucket bucket = cacheableBuckets.get(i);
+            Optional<RefundReportResponse> refundReportResponse = Optional.ofNullable(cached[i]);
+
+            // a token verified by an earlier fetch of this request may now read the cache
+            if (!refundReportResponse.isPresent() && Objects.isNull(scope) && Objects.nonNull(verifiedScope)) {
+                refundReportResponse = bucketCache.get(verifiedScope, merchant, acquirer, bucket);
+            }
+
+            if (!refundReportResponse.isPresent()) {
+                refundReportResponse = fetch(bucket.getFrom(), bucket.getTo(), merchant, acquirer, authToken);
+
+                if (!refundReportResponse.isPresent()) {
+                    return Optional.empty();
+                }
+
+                if (Objects.isNull(verifiedScope)) {
+                    verifiedScope = authorizationScopes.verify(authToken);
+                }
+
+                bucketCache.put(verifiedScope, merchant, acquirer, bucket, refundReportResponse.get());
+            }
+
+            refundReportResponses.add(refundReportResponse.get());
+        }
+
+        return Optional.of(RefundReportUtils.merge(refundReportResponses));
+
+    }
+
+    private Optional<RefundReportResponse> fetch(LocalDate fromDate, LocalDate toDate, Integer merchant, Integer acquirer, String authToken) {
+        return reportService.getRefundsReport(
+                new RefundsReportRequest(DateUtils.toDate(fromDate), DateUtils.toDate(toDate), merchant, acquirer), authToken);
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.ozge.service.impl;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.cache.ClientResponseCache;
+import com.ozge.configuration.properties.ClientServiceProperties;
+import com.ozge.exception.NullCustomerInfoException;
+import com.ozge.model.request.ClientRequest;
+import com.ozge.model.response.ClientResponse;
+import com.ozge.service.ClientService;
+
+/**
+ * Reads client responses through the {@link ClientResponseCache}. Only tokens the upstream
+ * already accepted read cached responses; transactions without customer information are
+ * answered from negative entries with the same exception.
+ */
+@Primary
+@Service
+public class CachingClientServiceImpl implements ClientService {
+
+    private final ClientService clientService;
+
+    private final ClientResponseCache clientResponseCache;
+
+    private final AuthorizationScopes authorizationScopes;
+
+    private final boolean enabled;
+
+    @Autowired
+    public CachingClientServiceImpl(@Qualifier("clientServiceImpl") ClientService clientService,
+                                    ClientResponseCache clientResponseCache,
+                                    AuthorizationScopes authorizationScopes,
+                                    ClientServiceProperties properties) {
+        this.clientService = clientService;
+        this.clientResponseCache = clientResponseCache;
+        this.authorizationScopes = authorizationScopes;
+        enabled = properties.getCache().isEnabled();
+    }
+
+    @Override
+    public Optional<ClientResponse> getClientInformation(ClientRequest clientRequest, String authToken)
+            throws NullCustomerInfoException {
+
+        String transactionId = clientRequest.getTransactionId();
+
+        if (!enabled || Objects.isNull(transactionId) || Objects.isNull(authToken)) {
+            return clientService.getClientInformation(clientRequest, authToken);
+        }
+
+        Optional<String> scope = authorizationScopes.verifiedScope(authToken);
+        Optional<Optional<ClientResponse>> cached = scope.flatMap(value -> clientResponseCache.get(value, transactionId));
+
+        if (cached.isPresent()) {
+            return Optional.of(cached.get().orElseThrow(NullCustomerInfoException::new));
+        }
+
+        Optional<ClientResponse> clientResponse;
+
+        try {
+            clientResponse = clientService.getClientInformation(clientRequest, authToken);
+        } catch (NullCustomerInfoException exp) {
+            // the upstream answered, so the token was accepted
+            clientResponseCache.putMissing(authorizationScopes.verify(authToken), transactionId);
+            throw exp;
+        }
+
+        if (clientResponse.isPresent()) {
+            clientResponseCache.put(authorizationScopes.verify(authToken), transactionId, clientResponse.get());
+        }
+
+        return clientResponse;
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.ozge.service.impl;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.ozge.concurrent.BoundedWorkers;
+import com.ozge.configuration.properties.ClientServiceProperties;
+import com.ozge.exception.NullCustomerInfoException;
+import com.ozge.model.error.ApiError;
+import com.ozge.model.error.AuthorizationError;
+import com.ozge.model.request.ClientRequest;
+import com.ozge.model.response.ClientBatchItem;
+import com.ozge.model.response.ClientResponse;
+import com.ozge.service.ClientBatchService;
+import com.ozge.service.ClientService;
+
+/**
+ * Runs a batch as a fixed number of workers taking the next transaction until none is
+ * left, so that no more than the configured concurrency is spent on one batch however
+ * many transactions it has. A failed lookup only fails its own item.
+ */
+@Service
+public class ClientBatchServiceImpl implements ClientBatchService {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ClientService clientService;
+
+    private final Executor executor;
+
+    private final int concurrency;
+
+    @Autowired
+    public ClientBatchServiceImpl(ClientService clientService,
+                                  @Qualifier("clientBatchExecutor") Executor executor,
+                                  ClientServiceProperties properties) {
+        this.clientService = clientService;
+        this.executor = executor;
+        concurrency = Math.max(1, properties.getBatch().getConcurrency());
+    }
+
+    @Override
+    public CompletableFuture<Void> getClientInformation(List<ClientRequest> clientRequests, String authToken,
+                                                        Consumer<ClientBatchItem> consumer) {
+
+        // lookups fail their own item only, so a consumer that can no longer take items ends the batch
+        return BoundedWorkers.run(clientRequests.size(), concurrency, executor,
+                index -> consumer.accept(lookup(clientRequests.get(index), authToken)), () -> null);
+
+    }
+
+    private ClientBatchItem lookup(ClientRequest clientRequest, String authToken) {
+
+        String transactionId = Objects.isNull(clientRequest) ? null : clientRequest.getTransactionId();
+
+        if (!StringUtils.hasText(transactionId)) {
+            return ClientBatchItem.failed(transactionId, HttpStatus.BAD_REQUEST.value(), new ApiError("Transaction Id cannot be blank"));
+        }
+
+        try {
+            return clientService.getClientInformation(clientRequest, authToken)
+                    .map(ClientResponse::getCustomerInfo)
+                    .map(customerInfo -> ClientBatchItem.found(transactionId, customerInfo))
+                    .orElseGet(() -> ClientBatchItem.failed(transactionId, HttpStatus.INTERNAL_SERVER_ERROR.value(), new ApiError()));
+        } catch (NullCustomerInfoException exp) {
+            return ClientBatchItem.failed(transactionId, HttpStatus.INTERNAL_SERVER_ERROR.value(), new ApiError(exp.getMessage()));
+        } catch (HttpClientErrorException exp) {
+            return ClientBatchItem.failed(transactionId, HttpStatus.UNAUTHORIZED.value(), new AuthorizationError("Token Expired!"));
+        } catch (RuntimeException exp) {
+            log.error("Batch client lookup failed -> ( Transaction id : {} ) - message : {}", transactionId, exp.getMessage());
+            return ClientBatchItem.failed(transactionId, HttpStatus.INTERNAL_SERVER_ERROR.value(), new ApiError());
+        }
+
+    }
+
+}
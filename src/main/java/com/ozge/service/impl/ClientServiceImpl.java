@@ -2,21 +2,29 @@ package com.ozge.service.impl;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.concurrent.SingleFlight;
+import com.ozge.concurrent.UpstreamBulkhead;
 import com.ozge.configuration.properties.ClientServiceProperties;
 import com.ozge.exception.NullCustomerInfoException;
 import com.ozge.model.request.ClientRequest;
 import com.ozge.model.response.ClientResponse;
 import com.ozge.service.ClientService;
 import com.ozge.util.HttpUtils;
+import com.ozge.util.TokenUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Service
 public class ClientServiceImpl implements ClientService {
@@ -27,10 +35,23 @@ public class ClientServiceImpl implements ClientService {
 
 	private final String url;
 
+	private final AuthorizationScopes authorizationScopes;
+
+	private final SingleFlight<String, ClientResponse> singleFlight;
+
+	private final UpstreamBulkhead bulkhead;
+
 	@Autowired
-	public ClientServiceImpl(RestTemplate restTemplate, ClientServiceProperties properties) {
+	public ClientServiceImpl(RestTemplate restTemplate, ClientServiceProperties properties,
+			AuthorizationScopes authorizationScopes, MeterRegistry meterRegistry,
+			@Qualifier("clientBulkhead") UpstreamBulkhead bulkhead) {
 		this.restTemplate = restTemplate;
 		url = properties.getUrl();
+		this.authorizationScopes = authorizationScopes;
+		singleFlight = properties.getCoalescing().isEnabled()
+				? new SingleFlight<>("client", properties.getCoalescing(), meterRegistry)
+				: null;
+		this.bulkhead = bulkhead;
 	}
 
 	@Override
@@ -40,15 +61,34 @@ public class ClientServiceImpl implements ClientService {
 		log.info("Getting client information service was called -> {} - ( id : {} - token : {})", url,
 				clientRequest.getTransactionId(), authToken);
 
-		ClientResponse clientResponse = restTemplate.exchange(url, HttpMethod.POST,
+		if (Objects.isNull(singleFlight) || Objects.isNull(clientRequest.getTransactionId()) || Objects.isNull(authToken)) {
+			return Optional.of(fetch(clientRequest, authToken));
+		}
+
+		// only tokens the upstream already accepted share calls by scope, others by token
+		String scope = authorizationScopes.verifiedScope(authToken).orElseGet(() -> "token:" + TokenUtils.sha256(authToken));
+
+		return Optional.of(singleFlight.execute(scope + "|" + clientRequest.getTransactionId(), () -> {
+			ClientResponse clientResponse = fetch(clientRequest, authToken);
+			authorizationScopes.verify(authToken);
+			return clientResponse;
+		}));
+
+	}
+
+	private ClientResponse fetch(ClientRequest clientRequest, String authToken) {
+
+		Supplier<ClientResponse> call = () -> restTemplate.exchange(url, HttpMethod.POST,
 				new HttpEntity<>(clientRequest, HttpUtils.generateAuthorizationHeader(authToken)), ClientResponse.class)
 				.getBody();
 
+		ClientResponse clientResponse = bulkhead.execute(call);
+
 		if (Objects.isNull(clientResponse.getCustomerInfo())) {
 			throw new NullCustomerInfoException();
 		}
 
-		return Optional.of(clientResponse);
+		return clientResponse;
 
 	}
 
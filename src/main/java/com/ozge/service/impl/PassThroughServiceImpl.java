@@ -0,0 +1,206 @@
+package com.ozge.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.concurrent.UpstreamBulkhead;
+import com.ozge.configuration.properties.PassThroughProperties;
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.configuration.properties.UserServiceProperties;
+import com.ozge.model.request.MerchantUserRequest;
+import com.ozge.model.request.RefundsReportRequest;
+import com.ozge.service.PassThroughService;
+import com.ozge.util.BufferPool;
+import com.ozge.util.HttpUtils;
+
+/**
+ * Sends the request through the request factory of the {@link RestTemplate}, and its
+ * error handler still throws on erroneous upstream responses. A successful body is left
+ * open and copied to the client through a pooled buffer as it arrives. The bulkhead
+ * covers the upstream call until its headers arrived, not the copy of its body.
+ */
+@Service
+public class PassThroughServiceImpl implements PassThroughService {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final RestTemplate restTemplate;
+
+    private final AuthorizationScopes authorizationScopes;
+
+    private final String reportUrl;
+
+    private final String infoUrl;
+
+    private final boolean report;
+
+    private final boolean userInfo;
+
+    private final BufferPool bufferPool;
+
+    private final MappingJackson2HttpMessageConverter jsonConverter;
+
+    private final UpstreamBulkhead reportBulkhead;
+
+    private final UpstreamBulkhead infoBulkhead;
+
+    @Autowired
+    public PassThroughServiceImpl(RestTemplate restTemplate, AuthorizationScopes authorizationScopes,
+                                  ReportServiceProperties reportServiceProperties, UserServiceProperties userServiceProperties,
+                                  PassThroughProperties properties,
+                                  @Qualifier("reportBulkhead") UpstreamBulkhead reportBulkhead,
+                                  @Qualifier("userInfoBulkhead") UpstreamBulkhead infoBulkhead) {
+        this.restTemplate = restTemplate;
+        this.authorizationScopes = authorizationScopes;
+        reportUrl = reportServiceProperties.getUrl();
+        infoUrl = userServiceProperties.getInfo().getUrl();
+        report = properties.isReport();
+        userInfo = properties.isUserInfo();
+        bufferPool = new BufferPool(properties.getBufferSize(), properties.getMaxPooledBuffers());
+        // the request bodies are written the way the other services write them
+        jsonConverter = restTemplate.getMessageConverters().stream()
+                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                .map(MappingJackson2HttpMessageConverter.class::cast)
+                .findFirst()
+                .orElseGet(MappingJackson2HttpMessageConverter::new);
+        this.reportBulkhead = reportBulkhead;
+        this.infoBulkhead = infoBulkhead;
+    }
+
+    @Override
+    public boolean isRefundsReportEnabled() {
+        return report;
+    }
+
+    @Override
+    public boolean isMerchantUserInformationEnabled() {
+        return userInfo;
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> relayRefundsReport(RefundsReportRequest refundsReportRequest, String authToken) {
+
+        log.info("Relaying refunds report -> {} - ( fromDate : {} - toDate : {} - merchant : {} - acquirer : {} ) - token ( {} )",
+                reportUrl,
+                refundsReportRequest.getFromDate(),
+                refundsReportRequest.getToDate(),
+                refundsReportRequest.getMerchant(),
+                refundsReportRequest.getAcquirer(),
+                authToken);
+
+        ResponseEntity<StreamingResponseBody> relayed = relay(reportUrl, reportBulkhead, refundsReportRequest, authToken);
+
+        // like the bucketed service, an answered report proves the token for later cache reads
+        authorizationScopes.verify(authToken);
+
+        return relayed;
+
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> relayMerchantUserInformation(MerchantUserRequest merchantUserRequest, String authToken) {
+
+        log.info("Relaying merchant user information -> {} - ( id : {} - token : {})", infoUrl, merchantUserRequest.getId(), authToken);
+
+        ResponseEntity<StreamingResponseBody> relayed = relay(infoUrl, infoBulkhead, merchantUserRequest, authToken);
+
+        authorizationScopes.verify(authToken);
+
+        return relayed;
+
+    }
+
+    private ResponseEntity<StreamingResponseBody> relay(String url, UpstreamBulkhead bulkhead, Object requestBody, String authToken) {
+
+        ClientHttpResponse upstream = bulkhead.execute(() -> exchange(url, requestBody, authToken));
+
+        try {
+
+            HttpHeaders upstreamHeaders = upstream.getHeaders();
+            HttpHeaders headers = new HttpHeaders();
+
+            if (Objects.nonNull(upstreamHeaders.getContentType())) {
+                headers.setContentType(upstreamHeaders.getContentType());
+            }
+            if (upstreamHeaders.getContentLength() >= 0) {
+                headers.setContentLength(upstreamHeaders.getContentLength());
+            }
+
+            return new ResponseEntity<>(output -> copy(url, upstream, output), headers, upstream.getStatusCode());
+
+        } catch (IOException exp) {
+            upstream.close();
+            throw ioError(url, exp);
+        }
+
+    }
+
+    /**
+     * Calls the upstream and returns its response still open, once the error handler let
+     * it through.
+     */
+    private ClientHttpResponse exchange(String url, Object requestBody, String authToken) {
+
+        try {
+
+            ClientHttpRequest request = restTemplate.getRequestFactory().createRequest(URI.create(url), HttpMethod.POST);
+            request.getHeaders().putAll(HttpUtils.generateAuthorizationHeader(authToken));
+            request.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+            jsonConverter.write(requestBody, MediaType.APPLICATION_JSON_UTF8, request);
+
+            ClientHttpResponse upstream = request.execute();
+            ResponseErrorHandler errorHandler = restTemplate.getErrorHandler();
+
+            if (errorHandler.hasError(upstream)) {
+                try {
+                    errorHandler.handleError(upstream);
+                } finally {
+                    upstream.close();
+                }
+            }
+
+            return upstream;
+
+        } catch (IOException exp) {
+            throw ioError(url, exp);
+        }
+
+    }
+
+    private void copy(String url, ClientHttpResponse upstream, OutputStream output) throws IOException {
+
+        try {
+            long copied = bufferPool.copy(upstream.getBody(), output);
+            log.debug("Relayed upstream response -> {} - ( bytes : {} )", url, copied);
+        } finally {
+            upstream.close();
+        }
+
+    }
+
+    private static ResourceAccessException ioError(String url, IOException exp) {
+        return new ResourceAccessException("I/O error on POST request for \"" + url + "\": " + exp.getMessage(), exp);
+    }
+
+}
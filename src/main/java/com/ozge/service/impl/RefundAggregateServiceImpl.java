@@ -0,0 +1,149 @@
+package com.ozge.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.ozge.aggregate.RefundTotals;
+import com.ozge.concurrent.BoundedWorkers;
+import com.ozge.configuration.properties.Aggregate;
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.exception.QueryLimitExceededException;
+import com.ozge.model.request.RefundsAggregateRequest;
+import com.ozge.model.request.RefundsReportRequest;
+import com.ozge.model.response.RefundReport;
+import com.ozge.model.response.RefundReportResponse;
+import com.ozge.model.response.RefundsAggregateResponse;
+import com.ozge.service.RefundAggregateService;
+import com.ozge.service.ReportService;
+
+/**
+ * Queries one refunds report per merchant and acquirer combination through the
+ * {@link ReportService}, so that its caching and fan-out apply to every query. A fixed
+ * number of workers take the next combination until none is left; the reports are summed
+ * once all of them arrived.
+ */
+@Service
+public class RefundAggregateServiceImpl implements RefundAggregateService {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ReportService reportService;
+
+    private final Executor executor;
+
+    private final int maxQueries;
+
+    private final int maxParallelism;
+
+    @Autowired
+    public RefundAggregateServiceImpl(ReportService reportService,
+                                      @Qualifier("reportAggregateExecutor") Executor executor,
+                                      ReportServiceProperties properties) {
+        Aggregate aggregate = properties.getAggregate();
+
+        this.reportService = reportService;
+        this.executor = executor;
+        maxQueries = aggregate.getMaxQueries();
+        maxParallelism = Math.max(1, aggregate.getMaxParallelism());
+    }
+
+    @Override
+    public CompletableFuture<RefundsAggregateResponse> getRefundsAggregate(RefundsAggregateRequest refundsAggregateRequest, String authToken) {
+
+        List<Integer> merchants = distinct(refundsAggregateRequest.getMerchants());
+        List<Integer> acquirers = distinct(refundsAggregateRequest.getAcquirers());
+
+        List<RefundsReportRequest> queries = new ArrayList<>(merchants.size() * acquirers.size());
+        for (Integer merchant : merchants) {
+            for (Integer acquirer : acquirers) {
+                queries.add(new RefundsReportRequest(refundsAggregateRequest.getFromDate(), refundsAggregateRequest.getToDate(), merchant, acquirer));
+            }
+        }
+
+        if (queries.size() > maxQueries) {
+            throw new QueryLimitExceededException("Aggregate cannot have more than " + maxQueries + " merchant and acquirer combinations");
+        }
+
+        log.info("Refunds aggregate -> ( merchants : {} - acquirers : {} - queries : {} )", merchants.size(), acquirers.size(), queries.size());
+
+        RefundReportResponse[] refundReportResponses = new RefundReportResponse[queries.size()];
+
+        return BoundedWorkers.run(queries.size(), maxParallelism, executor,
+                index -> refundReportResponses[index] = reportService.getRefundsReport(queries.get(index), authToken).orElse(null),
+                () -> sum(queries, refundReportResponses, refundsAggregateRequest.getMerchants()));
+
+    }
+
+    private static RefundsAggregateResponse sum(List<RefundsReportRequest> queries, RefundReportResponse[] refundReportResponses,
+                                                List<Integer> merchants) {
+
+        RefundTotals refundTotals = new RefundTotals(Objects.isNull(merchants) ? 0 : merchants.size());
+        String status = null;
+
+        for (RefundsReportRequest query : queries) {
+            if (Objects.nonNull(query.getMerchant())) {
+                refundTotals.addMerchant(query.getMerchant());
+            }
+        }
+
+        for (int index = 0; index < refundReportResponses.length; index++) {
+            RefundReportResponse refundReportResponse = refundReportResponses[index];
+
+            if (Objects.isNull(refundReportResponse)) {
+                continue;
+            }
+            if (Objects.isNull(status)) {
+                status = refundReportResponse.getStatus();
+            }
+            if (Objects.isNull(refundReportResponse.getRefundReports())) {
+                continue;
+            }
+
+            Integer merchant = queries.get(index).getMerchant();
+
+            for (RefundReport refundReport : refundReportResponse.getRefundReports()) {
+                int count = Objects.isNull(refundReport.getCount()) ? 0 : refundReport.getCount();
+                long total = Objects.isNull(refundReport.getTotal()) ? 0L : refundReport.getTotal();
+
+                if (Objects.isNull(merchant)) {
+                    refundTotals.add(refundReport.getCurrency(), count, total);
+                } else {
+                    refundTotals.add(merchant, refundReport.getCurrency(), count, total);
+                }
+            }
+        }
+
+        return new RefundsAggregateResponse(status, refundTotals.merchants(), refundTotals.currencies(), refundTotals.count());
+
+    }
+
+    /**
+     * The distinct non null ids in their given order, or a single null id (no filter) when
+     * there are none.
+     */
+    private static List<Integer> distinct(List<Integer> ids) {
+
+        if (Objects.isNull(ids)) {
+            return Collections.singletonList(null);
+        }
+
+        Set<Integer> distinct = new LinkedHashSet<>(ids);
+        distinct.remove(null);
+
+        return distinct.isEmpty() ? Collections.singletonList(null) : new ArrayList<>(distinct);
+
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.ozge.service.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.ozge.model.request.RefundsCompareRequest;
+import com.ozge.model.request.RefundsReportRequest;
+import com.ozge.model.response.CurrencyComparison;
+import com.ozge.model.response.RefundReport;
+import com.ozge.model.response.RefundReportResponse;
+import com.ozge.model.response.RefundsCompareResponse;
+import com.ozge.service.RefundCompareService;
+import com.ozge.service.ReportService;
+
+/**
+ * Queries both ranges through the {@link ReportService} on the aggregation executor, so
+ * that each costs no more than its day and month buckets missing from the cache, and
+ * compares their refunds per currency once both arrived.
+ */
+@Service
+public class RefundCompareServiceImpl implements RefundCompareService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final ReportService reportService;
+
+    private final Executor executor;
+
+    @Autowired
+    public RefundCompareServiceImpl(ReportService reportService,
+                                    @Qualifier("reportAggregateExecutor") Executor executor) {
+        this.reportService = reportService;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Optional<RefundsCompareResponse>> getRefundsComparison(RefundsCompareRequest refundsCompareRequest, String authToken) {
+
+        RefundsReportRequest previousRequest = new RefundsReportRequest(refundsCompareRequest.getPreviousFromDate(),
+                refundsCompareRequest.getPreviousToDate(), refundsCompareRequest.getMerchant(), refundsCompareRequest.getAcquirer());
+        RefundsReportRequest currentRequest = new RefundsReportRequest(refundsCompareRequest.getCurrentFromDate(),
+                refundsCompareRequest.getCurrentToDate(), refundsCompareRequest.getMerchant(), refundsCompareRequest.getAcquirer());
+
+        CompletableFuture<Optional<RefundReportResponse>> previous = CompletableFuture.supplyAsync(
+                () -> reportService.getRefundsReport(previousRequest, authToken), executor);
+        CompletableFuture<Optional<RefundReportResponse>> current;
+
+        try {
+            current = CompletableFuture.supplyAsync(() -> reportService.getRefundsReport(currentRequest, authToken), executor);
+        } catch (RejectedExecutionException exp) {
+            // a saturated executor queries the current range once the previous one is done
+            current = previous.thenApply(result -> reportService.getRefundsReport(currentRequest, authToken));
+        }
+
+        return previous.thenCombine(current, (previousResponse, currentResponse) -> {
+            if (!previousResponse.isPresent() || !currentResponse.isPresent()) {
+                return Optional.empty();
+            }
+            return Optional.of(compare(previousResponse.get(), currentResponse.get()));
+        });
+
+    }
+
+    private static RefundsCompareResponse compare(RefundReportResponse previous, RefundReportResponse current) {
+
+        // currency -> previous count, previous total, current count, current total
+        Map<String, long[]> figures = new LinkedHashMap<>();
+        add(figures, current, 2);
+        add(figures, previous, 0);
+
+        List<CurrencyComparison> currencies = new ArrayList<>(figures.size());
+
+        for (Map.Entry<String, long[]> entry : figures.entrySet()) {
+            long[] values = entry.getValue();
+            currencies.add(new CurrencyComparison(entry.getKey(), values[0], values[1], values[2], values[3],
+                    values[2] - values[0], values[3] - values[1], percent(values[0], values[2]), percent(values[1], values[3])));
+        }
+
+        String status = Objects.isNull(current.getStatus()) ? previous.getStatus() : current.getStatus();
+
+        return new RefundsCompareResponse(status, currencies);
+
+    }
+
+    private static void add(Map<String, long[]> figures, RefundReportResponse refundReportResponse, int offset) {
+
+        if (Objects.isNull(refundReportResponse.getRefundReports())) {
+            return;
+        }
+
+        for (RefundReport refundReport : refundReportResponse.getRefundReports()) {
+            long[] values = figures.computeIfAbsent(refundReport.getCurrency(), currency -> new long[4]);
+            values[offset] += Objects.isNull(refundReport.getCount()) ? 0 : refundReport.getCount();
+            values[offset + 1] += Objects.isNull(refundReport.getTotal()) ? 0L : refundReport.getTotal();
+        }
+
+    }
+
+    private static Double percent(long previous, long current) {
+
+        if (previous == 0) {
+            return null;
+        }
+
+        return BigDecimal.valueOf(current - previous).multiply(HUNDRED)
+                .divide(BigDecimal.valueOf(previous), 2, RoundingMode.HALF_UP)
+                .doubleValue();
+
+    }
+
+}
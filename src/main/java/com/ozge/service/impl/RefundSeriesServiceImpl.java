@@ -0,0 +1,288 @@
+package com.ozge.service.impl;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.ozge.aggregate.Interval;
+import com.ozge.aggregate.RefundSeries;
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.cache.DateBucket;
+import com.ozge.cache.RefundReportBucketCache;
+import com.ozge.concurrent.BoundedWorkers;
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.configuration.properties.Series;
+import com.ozge.exception.QueryLimitExceededException;
+import com.ozge.model.request.RefundsReportRequest;
+import com.ozge.model.request.RefundsSeriesRequest;
+import com.ozge.model.response.RefundReport;
+import com.ozge.model.response.RefundReportResponse;
+import com.ozge.model.response.RefundsSeriesPeriod;
+import com.ozge.model.response.RefundsSeriesResponse;
+import com.ozge.service.RefundSeriesService;
+import com.ozge.service.ReportService;
+import com.ozge.util.DateUtils;
+import com.ozge.util.RefundReportUtils;
+
+/**
+ * Builds refund series from the buckets of the {@link RefundReportBucketCache}: whole
+ * months of a monthly series are read and cached as month buckets, every other day as a
+ * day bucket, so series and refund reports share them. Buckets that are not cached are
+ * fetched one upstream call each, by a fixed number of workers of the series executor,
+ * and cached. Days after today are not fetched as they cannot have refunds yet. Streamed
+ * series go through the range a window of whole periods at a time on the streaming thread,
+ * so their heap use does not grow with it.
+ */
+@Service
+public class RefundSeriesServiceImpl implements RefundSeriesService {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ReportService reportService;
+
+    private final RefundReportBucketCache bucketCache;
+
+    private final AuthorizationScopes authorizationScopes;
+
+    private final Clock clock;
+
+    private final Executor executor;
+
+    private final boolean cacheEnabled;
+
+    private final int maxDays;
+
+    private final int maxParallelism;
+
+    private final int windowDays;
+
+    @Autowired
+    public RefundSeriesServiceImpl(@Qualifier("reportServiceImpl") ReportService reportService,
+                                   RefundReportBucketCache bucketCache,
+                                   AuthorizationScopes authorizationScopes,
+                                   Clock clock,
+                                   @Qualifier("reportSeriesExecutor") Executor executor,
+                                   ReportServiceProperties properties) {
+        Series series = properties.getSeries();
+
+        this.reportService = reportService;
+        this.bucketCache = bucketCache;
+        this.authorizationScopes = authorizationScopes;
+        this.clock = clock;
+        this.executor = executor;
+        cacheEnabled = properties.getCache().isEnabled();
+        maxDays = series.getMaxDays();
+        maxParallelism = Math.max(1, series.getMaxParallelism());
+        windowDays = Math.max(1, series.getWindowDays());
+    }
+
+    @Override
+    public CompletableFuture<RefundsSeriesResponse> getRefundsSeries(RefundsSeriesRequest refundsSeriesRequest, String authToken) {
+
+        LocalDate fromDate = DateUtils.toLocalDate(refundsSeriesRequest.getFromDate());
+        LocalDate toDate = DateUtils.toLocalDate(refundsSeriesRequest.getToDate());
+        Interval interval = Objects.isNull(refundsSeriesRequest.getInterval()) ? Interval.DAY : refundsSeriesRequest.getInterval();
+
+        if (fromDate.isAfter(toDate)) {
+            return CompletableFuture.completedFuture(new RefundsSeriesResponse(null, interval, Collections.emptyList(), Collections.emptyList()));
+        }
+
+        checkRefundsSeries(refundsSeriesRequest);
+
+        Integer merchant = refundsSeriesRequest.getMerchant();
+        Integer acquirer = refundsSeriesRequest.getAcquirer();
+        List<DateBucket> buckets = buckets(interval, fromDate, toDate);
+        RefundReportResponse[] refundReportResponses = new RefundReportResponse[buckets.size()];
+
+        return resolve(merchant, acquirer, buckets, refundReportResponses, authToken,
+                () -> series(interval, fromDate, toDate, buckets, refundReportResponses));
+
+    }
+
+    @Override
+    public void checkRefundsSeries(RefundsSeriesRequest refundsSeriesRequest) {
+
+        LocalDate fromDate = DateUtils.toLocalDate(refundsSeriesRequest.getFromDate());
+        LocalDate toDate = DateUtils.toLocalDate(refundsSeriesRequest.getToDate());
+
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= maxDays) {
+            throw new QueryLimitExceededException("Series cannot span more than " + maxDays + " days");
+        }
+
+    }
+
+    @Override
+    public void streamRefundsSeries(RefundsSeriesRequest refundsSeriesRequest, String authToken, Consumer<RefundsSeriesPeriod> consumer) {
+
+        checkRefundsSeries(refundsSeriesRequest);
+
+        LocalDate fromDate = DateUtils.toLocalDate(refundsSeriesRequest.getFromDate());
+        LocalDate toDate = DateUtils.toLocalDate(refundsSeriesRequest.getToDate());
+        Interval interval = Objects.isNull(refundsSeriesRequest.getInterval()) ? Interval.DAY : refundsSeriesRequest.getInterval();
+        LocalDate windowEnd;
+
+        for (LocalDate start = fromDate; !start.isAfter(toDate); start = windowEnd.plusDays(1)) {
+            // whole periods making up at least a window of days
+            LocalDate end = start;
+            while (!end.isAfter(toDate) && ChronoUnit.DAYS.between(start, end) < windowDays) {
+                end = interval.next(end);
+            }
+            windowEnd = end.isAfter(toDate) ? toDate : end.minusDays(1);
+
+            List<DateBucket> buckets = buckets(interval, start, windowEnd);
+            RefundReportResponse[] refundReportResponses = new RefundReportResponse[buckets.size()];
+
+            join(resolve(refundsSeriesRequest.getMerchant(), refundsSeriesRequest.getAcquirer(), buckets, refundReportResponses,
+                    authToken, () -> null));
+
+            int index = 0;
+
+            for (LocalDate period = start; !period.isAfter(windowEnd); period = interval.next(period)) {
+                List<RefundReportResponse> periodResponses = new ArrayList<>();
+                int missingDays = 0;
+
+                for (; index < buckets.size() && buckets.get(index).getFrom().isBefore(interval.next(period)); index++) {
+                    if (Objects.nonNull(refundReportResponses[index])) {
+                        periodResponses.add(refundReportResponses[index]);
+                    } else {
+                        missingDays += ChronoUnit.DAYS.between(buckets.get(index).getFrom(), buckets.get(index).getTo()) + 1;
+                    }
+                }
+
+                RefundReportResponse merged = RefundReportUtils.merge(periodResponses);
+                consumer.accept(new RefundsSeriesPeriod(period.toString(), merged.getStatus(), merged.getRefundReports(), missingDays));
+            }
+        }
+
+    }
+
+    /**
+     * Buckets of the periods of the range up to today, as later days cannot have refunds
+     * yet: the whole months of a period as month buckets and its other days as day buckets,
+     * so that no bucket spans two periods.
+     */
+    private List<DateBucket> buckets(Interval interval, LocalDate fromDate, LocalDate toDate) {
+
+        LocalDate today = LocalDate.now(clock);
+        LocalDate lastDay = toDate.isAfter(today) ? today : toDate;
+        List<DateBucket> buckets = new ArrayList<>();
+
+        for (LocalDate period = fromDate; !period.isAfter(lastDay); period = interval.next(period)) {
+            LocalDate periodEnd = interval.next(period).minusDays(1);
+            buckets.addAll(DateBucket.split(period, periodEnd.isAfter(lastDay) ? lastDay : periodEnd));
+        }
+
+        return buckets;
+
+    }
+
+    /**
+     * Fills in the report of every bucket, from the cache where possible and from the
+     * upstream otherwise, and completes with the result once all of them are known. A token
+     * reads cached buckets only once the upstream accepted it, so the first buckets of an
+     * unknown token are fetched.
+     */
+    private <T> CompletableFuture<T> resolve(Integer merchant, Integer acquirer, List<DateBucket> buckets,
+                                             RefundReportResponse[] refundReportResponses, String authToken, Supplier<T> result) {
+
+        if (buckets.isEmpty()) {
+            return CompletableFuture.completedFuture(result.get());
+        }
+
+        return BoundedWorkers.run(buckets.size(), maxParallelism, executor, index -> {
+            DateBucket bucket = buckets.get(index);
+            String scope = cacheEnabled ? authorizationScopes.verifiedScope(authToken).orElse(null) : null;
+
+            refundReportResponses[index] = Objects.isNull(scope) ? null : bucketCache.get(scope, merchant, acquirer, bucket).orElse(null);
+
+            if (Objects.isNull(refundReportResponses[index])) {
+                log.debug("Refunds series bucket -> ( bucket : {} - upstream call )", bucket);
+                refundReportResponses[index] = fetch(merchant, acquirer, bucket, authToken);
+            }
+        }, result);
+
+    }
+
+    /**
+     * Fetches and caches the report of the bucket.
+     */
+    private RefundReportResponse fetch(Integer merchant, Integer acquirer, DateBucket bucket, String authToken) {
+
+        RefundsReportRequest refundsReportRequest = new RefundsReportRequest(DateUtils.toDate(bucket.getFrom()), DateUtils.toDate(bucket.getTo()), merchant, acquirer);
+        RefundReportResponse refundReportResponse = reportService.getRefundsReport(refundsReportRequest, authToken).orElse(null);
+
+        if (Objects.nonNull(refundReportResponse)) {
+            String scope = authorizationScopes.verify(authToken);
+            if (cacheEnabled) {
+                bucketCache.put(scope, merchant, acquirer, bucket, refundReportResponse);
+            }
+        }
+
+        return refundReportResponse;
+
+    }
+
+    private static void join(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch (CompletionException exp) {
+            if (exp.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exp.getCause();
+            }
+            throw exp;
+        }
+    }
+
+    private static RefundsSeriesResponse series(Interval interval, LocalDate fromDate, LocalDate toDate, List<DateBucket> buckets,
+                                                RefundReportResponse[] refundReportResponses) {
+
+        List<String> periods = new ArrayList<>();
+        for (LocalDate start = fromDate; !start.isAfter(toDate); start = interval.next(start)) {
+            periods.add(start.toString());
+        }
+
+        RefundSeries refundSeries = new RefundSeries(periods.size());
+        String status = null;
+
+        for (int index = 0; index < refundReportResponses.length; index++) {
+            RefundReportResponse refundReportResponse = refundReportResponses[index];
+
+            if (Objects.isNull(refundReportResponse)) {
+                continue;
+            }
+            if (Objects.isNull(status)) {
+                status = refundReportResponse.getStatus();
+            }
+            if (Objects.isNull(refundReportResponse.getRefundReports())) {
+                continue;
+            }
+
+            int period = interval.index(fromDate, buckets.get(index).getFrom());
+
+            for (RefundReport refundReport : refundReportResponse.getRefundReports()) {
+                refundSeries.add(period, refundReport.getCurrency(),
+                        Objects.isNull(refundReport.getCount()) ? 0 : refundReport.getCount(),
+                        Objects.isNull(refundReport.getTotal()) ? 0L : refundReport.getTotal());
+            }
+        }
+
+        return new RefundsSeriesResponse(status, interval, periods, refundSeries.series());
+
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.ozge.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.ozge.aggregate.RefundMetric;
+import com.ozge.aggregate.TopMerchants;
+import com.ozge.concurrent.BoundedWorkers;
+import com.ozge.configuration.properties.Aggregate;
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.exception.InvalidLimitException;
+import com.ozge.exception.QueryLimitExceededException;
+import com.ozge.model.auth.TokenClaims;
+import com.ozge.model.request.RefundsReportRequest;
+import com.ozge.model.request.RefundsTopRequest;
+import com.ozge.model.response.RefundReport;
+import com.ozge.model.response.RefundReportResponse;
+import com.ozge.model.response.RefundsTopResponse;
+import com.ozge.service.RefundTopService;
+import com.ozge.service.ReportService;
+import com.ozge.util.TokenUtils;
+
+/**
+ * Queries one refunds report per merchant through the {@link ReportService}, so that
+ * cached merchant buckets answer most of them, with the workers and limits of the
+ * aggregation. Every report is offered to a bounded heap as soon as it arrives and then
+ * dropped, so a ranking holds no more than its limit of merchants at a time.
+ */
+@Service
+public class RefundTopServiceImpl implements RefundTopService {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ReportService reportService;
+
+    private final Executor executor;
+
+    private final int maxQueries;
+
+    private final int maxParallelism;
+
+    private final int maxLimit;
+
+    @Autowired
+    public RefundTopServiceImpl(ReportService reportService,
+                                @Qualifier("reportAggregateExecutor") Executor executor,
+                                ReportServiceProperties properties) {
+        Aggregate aggregate = properties.getAggregate();
+
+        this.reportService = reportService;
+        this.executor = executor;
+        maxQueries = aggregate.getMaxQueries();
+        maxParallelism = Math.max(1, aggregate.getMaxParallelism());
+        maxLimit = properties.getTop().getMaxLimit();
+    }
+
+    @Override
+    public CompletableFuture<RefundsTopResponse> getRefundsTop(RefundsTopRequest refundsTopRequest, String authToken) {
+
+        if (refundsTopRequest.getLimit() < 1 || refundsTopRequest.getLimit() > maxLimit) {
+            throw new InvalidLimitException("Ranking limit must be between 1 and " + maxLimit);
+        }
+
+        List<Integer> merchants = merchants(refundsTopRequest.getMerchants(), authToken);
+
+        if (merchants.size() > maxQueries) {
+            throw new QueryLimitExceededException("Ranking cannot query more than " + maxQueries + " merchants");
+        }
+
+        String currency = refundsTopRequest.getCurrency();
+        RefundMetric metric = Objects.isNull(refundsTopRequest.getBy()) ? RefundMetric.TOTAL : refundsTopRequest.getBy();
+
+        log.info("Refunds top -> ( merchants : {} - currency : {} - by : {} - limit : {} )", merchants.size(), currency, metric,
+                refundsTopRequest.getLimit());
+
+        TopMerchants topMerchants = new TopMerchants(metric, refundsTopRequest.getLimit());
+        AtomicReference<String> status = new AtomicReference<>();
+
+        return BoundedWorkers.run(merchants.size(), maxParallelism, executor, index -> {
+            Integer merchant = merchants.get(index);
+            Optional<RefundReportResponse> refundReportResponse = reportService.getRefundsReport(
+                    new RefundsReportRequest(refundsTopRequest.getFromDate(), refundsTopRequest.getToDate(), merchant,
+                            refundsTopRequest.getAcquirer()), authToken);
+
+            refundReportResponse.ifPresent(response -> {
+                status.compareAndSet(null, response.getStatus());
+                offer(topMerchants, merchant, currency, response);
+            });
+        }, () -> {
+            synchronized (topMerchants) {
+                return new RefundsTopResponse(status.get(), currency, metric, merchants.size(), topMerchants.ranking());
+            }
+        });
+
+    }
+
+    private static void offer(TopMerchants topMerchants, Integer merchant, String currency, RefundReportResponse refundReportResponse) {
+
+        long count = 0;
+        long total = 0;
+
+        if (Objects.nonNull(refundReportResponse.getRefundReports())) {
+            for (RefundReport refundReport : refundReportResponse.getRefundReports()) {
+                if (currency.equalsIgnoreCase(refundReport.getCurrency())) {
+                    count += Objects.isNull(refundReport.getCount()) ? 0 : refundReport.getCount();
+                    total += Objects.isNull(refundReport.getTotal()) ? 0L : refundReport.getTotal();
+                }
+            }
+        }
+
+        synchronized (topMerchants) {
+            topMerchants.offer(merchant, count, total);
+        }
+
+    }
+
+    /**
+     * The distinct requested merchants in their given order, or else the sub merchants the
+     * token carries.
+     */
+    private static List<Integer> merchants(List<Integer> merchants, String authToken) {
+
+        Set<Integer> distinct = new LinkedHashSet<>();
+
+        if (Objects.nonNull(merchants)) {
+            distinct.addAll(merchants);
+        }
+
+        if (distinct.isEmpty()) {
+            TokenUtils.decodeClaims(authToken)
+                    .map(TokenClaims::getSubMerchantIds)
+                    .ifPresent(distinct::addAll);
+        }
+
+        distinct.remove(null);
+
+        return distinct.isEmpty() ? Collections.emptyList() : new ArrayList<>(distinct);
+
+    }
+
+}
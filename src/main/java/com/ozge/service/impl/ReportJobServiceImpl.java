@@ -0,0 +1,264 @@
+package com.ozge.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.cache.DateBucket;
+import com.ozge.configuration.properties.ReportJobs;
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.exception.JobQueueFullException;
+import com.ozge.job.ReportJob;
+import com.ozge.model.request.RefundsReportRequest;
+import com.ozge.model.response.RefundReportResponse;
+import com.ozge.service.ReportJobService;
+import com.ozge.service.ReportService;
+import com.ozge.util.DateUtils;
+import com.ozge.util.RefundReportUtils;
+import com.ozge.util.TokenUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs refund reports on the job executor, asking the bucketed report service for every
+ * closed day or month bucket of the range in turn, and for today and later days at once,
+ * so that progress can be followed and finished buckets are cached even if the job
+ * fails. Jobs are held in memory until their result expires, and evicted on a schedule
+ * of their own rather than by the submissions.
+ */
+@Service
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ReportService reportService;
+
+    private final AuthorizationScopes authorizationScopes;
+
+    private final Clock clock;
+
+    private final Executor executor;
+
+    private final TaskScheduler scheduler;
+
+    private final int maxJobs;
+
+    private final Duration resultTtl;
+
+    private final Duration evictionInterval;
+
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    // running jobs per scope and report, guarded by itself
+    private final Map<String, ReportJob> runningJobs = new HashMap<>();
+
+    private final Counter acceptedCounter;
+
+    private final Counter deduplicatedCounter;
+
+    private final Counter rejectedCounter;
+
+    private ScheduledFuture<?> eviction;
+
+    @Autowired
+    public ReportJobServiceImpl(ReportService reportService,
+                                AuthorizationScopes authorizationScopes,
+                                Clock clock,
+                                MeterRegistry meterRegistry,
+                                @Qualifier("reportJobExecutor") Executor executor,
+                                @Qualifier("reportJobScheduler") TaskScheduler scheduler,
+                                ReportServiceProperties properties) {
+        ReportJobs reportJobs = properties.getJobs();
+
+        this.reportService = reportService;
+        this.authorizationScopes = authorizationScopes;
+        this.clock = clock;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        maxJobs = reportJobs.getMaxJobs();
+        resultTtl = reportJobs.getResultTtl();
+        evictionInterval = reportJobs.getEvictionInterval();
+        acceptedCounter = meterRegistry.counter("report.jobs.submissions", "result", "accepted");
+        deduplicatedCounter = meterRegistry.counter("report.jobs.submissions", "result", "deduplicated");
+        rejectedCounter = meterRegistry.counter("report.jobs.submissions", "result", "rejected");
+
+        meterRegistry.gaugeMapSize("report.jobs.held", Collections.emptyList(), jobs);
+    }
+
+    @PostConstruct
+    public void start() {
+        eviction = scheduler.scheduleWithFixedDelay(this::evictExpired, evictionInterval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (Objects.nonNull(eviction)) {
+            eviction.cancel(false);
+        }
+    }
+
+    @Override
+    public ReportJob submit(RefundsReportRequest refundsReportRequest, String authToken) {
+
+        String tokenHash = TokenUtils.sha256(authToken);
+        String scope = authorizationScopes.verifiedScope(authToken).orElse(null);
+        String key = (Objects.isNull(scope) ? "token:" + tokenHash : scope) + "|" + refundsReportRequest.getFromDate().getTime()
+                + "|" + refundsReportRequest.getToDate().getTime() + "|" + refundsReportRequest.getMerchant()
+                + "|" + refundsReportRequest.getAcquirer();
+        List<RefundsReportRequest> steps = steps(refundsReportRequest);
+
+        synchronized (runningJobs) {
+            ReportJob runningJob = runningJobs.get(key);
+
+            if (Objects.nonNull(runningJob)) {
+                deduplicatedCounter.increment();
+                return runningJob;
+            }
+
+            // only a full store waits for the expired jobs to be evicted
+            if (jobs.size() >= maxJobs) {
+                evictExpired();
+            }
+
+            if (jobs.size() >= maxJobs) {
+                rejectedCounter.increment();
+                throw new JobQueueFullException("No more than " + maxJobs + " report jobs can be held");
+            }
+
+            ReportJob reportJob = new ReportJob(UUID.randomUUID().toString(), tokenHash, scope, steps.size());
+
+            jobs.put(reportJob.getId(), reportJob);
+            runningJobs.put(key, reportJob);
+
+            try {
+                executor.execute(() -> run(reportJob, key, steps, authToken));
+            } catch (RejectedExecutionException exp) {
+                jobs.remove(reportJob.getId());
+                runningJobs.remove(key);
+                rejectedCounter.increment();
+                throw new JobQueueFullException("Report job queue is full");
+            }
+
+            acceptedCounter.increment();
+
+            log.info("Refunds report job queued -> ( id : {} - buckets : {} )", reportJob.getId(), steps.size());
+
+            return reportJob;
+        }
+
+    }
+
+    @Override
+    public Optional<ReportJob> getJob(String id, String authToken) {
+
+        ReportJob reportJob = jobs.get(id);
+
+        if (Objects.isNull(reportJob)) {
+            return Optional.empty();
+        }
+
+        if (reportJob.isExpired(clock.instant())) {
+            jobs.remove(id, reportJob);
+            return Optional.empty();
+        }
+
+        String scope = authorizationScopes.verifiedScope(authToken).orElse(null);
+
+        return reportJob.isReadableBy(TokenUtils.sha256(authToken), scope) ? Optional.of(reportJob) : Optional.empty();
+
+    }
+
+    private void run(ReportJob reportJob, String key, List<RefundsReportRequest> steps, String authToken) {
+
+        reportJob.started();
+
+        try {
+            RefundReportResponse result = null;
+
+            for (RefundsReportRequest step : steps) {
+                Optional<RefundReportResponse> refundReportResponse = reportService.getRefundsReport(step, authToken);
+
+                if (!refundReportResponse.isPresent()) {
+                    reportJob.failed(null, clock.instant().plus(resultTtl));
+                    return;
+                }
+
+                // only the running sum is held, whatever the number of buckets
+                result = Objects.isNull(result) ? refundReportResponse.get()
+                        : RefundReportUtils.merge(Arrays.asList(result, refundReportResponse.get()));
+                reportJob.bucketDone();
+            }
+
+            reportJob.succeeded(result, authorizationScopes.verifiedScope(authToken).orElse(null), clock.instant().plus(resultTtl));
+        } catch (RuntimeException exp) {
+            log.warn("Refunds report job failed -> ( id : {} ) - message : {}", reportJob.getId(), exp.getMessage());
+            reportJob.failed(exp, clock.instant().plus(resultTtl));
+        } finally {
+            synchronized (runningJobs) {
+                runningJobs.remove(key, reportJob);
+            }
+        }
+
+    }
+
+    private void evictExpired() {
+        jobs.values().removeIf(reportJob -> reportJob.isExpired(clock.instant()));
+    }
+
+    /**
+     * Splits the report into one request per closed bucket and a single request for
+     * today and later days.
+     */
+    private List<RefundsReportRequest> steps(RefundsReportRequest refundsReportRequest) {
+
+        LocalDate fromDate = DateUtils.toLocalDate(refundsReportRequest.getFromDate());
+        LocalDate toDate = DateUtils.toLocalDate(refundsReportRequest.getToDate());
+        Integer merchant = refundsReportRequest.getMerchant();
+        Integer acquirer = refundsReportRequest.getAcquirer();
+
+        if (fromDate.isAfter(toDate)) {
+            return Collections.singletonList(refundsReportRequest);
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        List<RefundsReportRequest> steps = new ArrayList<>();
+
+        for (DateBucket bucket : DateBucket.split(fromDate, toDate.isBefore(today) ? toDate : today.minusDays(1))) {
+            steps.add(new RefundsReportRequest(DateUtils.toDate(bucket.getFrom()), DateUtils.toDate(bucket.getTo()), merchant, acquirer));
+        }
+
+        if (!toDate.isBefore(today)) {
+            LocalDate openFrom = fromDate.isAfter(today) ? fromDate : today;
+            steps.add(new RefundsReportRequest(DateUtils.toDate(openFrom), DateUtils.toDate(toDate), merchant, acquirer));
+        }
+
+        return steps;
+
+    }
+
+}
@@ -1,21 +1,36 @@
 package com.ozge.service.impl;
 
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.ozge.concurrent.UpstreamBulkhead;
+import com.ozge.configuration.properties.FanOut;
 import com.ozge.configuration.properties.ReportServiceProperties;
 import com.ozge.model.request.RefundsReportRequest;
 import com.ozge.model.response.RefundReportResponse;
 import com.ozge.service.ReportService;
+import com.ozge.util.DateUtils;
 import com.ozge.util.HttpUtils;
+import com.ozge.util.RefundReportUtils;
 
 @Service
 public class ReportServiceImpl implements ReportService {
@@ -26,10 +41,26 @@ public class ReportServiceImpl implements ReportService {
 
     private final String url;
 
+    private final Executor fanOutExecutor;
+
+    private final int splitDays;
+
+    private final int maxParallelism;
+
+    private final UpstreamBulkhead bulkhead;
+
     @Autowired
-    public ReportServiceImpl(RestTemplate restTemplate, ReportServiceProperties properties) {
+    public ReportServiceImpl(RestTemplate restTemplate, ReportServiceProperties properties,
+                             @Qualifier("reportFanOutExecutor") Executor fanOutExecutor,
+                             @Qualifier("reportBulkhead") UpstreamBulkhead bulkhead) {
+        FanOut fanOut = properties.getFanOut();
+
         this.restTemplate = restTemplate;
         url = properties.getUrl();
+        this.fanOutExecutor = fanOut.isEnabled() ? fanOutExecutor : null;
+        splitDays = Math.max(1, fanOut.getSplitDays());
+        maxParallelism = Math.max(1, fanOut.getMaxParallelism());
+        this.bulkhead = bulkhead;
     }
 
     @Override
@@ -43,10 +74,75 @@ public class ReportServiceImpl implements ReportService {
                 refundsReportRequest.getAcquirer(),
                 authToken);
 
-        RefundReportResponse refundReportResponse = restTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(refundsReportRequest, HttpUtils.generateAuthorizationHeader(authToken)), RefundReportResponse.class).getBody();
+        if (Objects.nonNull(fanOutExecutor) && Objects.nonNull(refundsReportRequest.getFromDate()) && Objects.nonNull(refundsReportRequest.getToDate())) {
+            LocalDate fromDate = DateUtils.toLocalDate(refundsReportRequest.getFromDate());
+            LocalDate toDate = DateUtils.toLocalDate(refundsReportRequest.getToDate());
+
+            if (ChronoUnit.DAYS.between(fromDate, toDate) >= splitDays) {
+                return Optional.of(fanOut(fromDate, toDate, refundsReportRequest, authToken));
+            }
+        }
+
+        return Optional.of(fetch(refundsReportRequest, authToken));
+
+    }
+
+    /**
+     * Fetches the range in sub-ranges of the split size, at most the configured number at a
+     * time, and sums them per currency. The first failing sub-range fails the whole report.
+     */
+    private RefundReportResponse fanOut(LocalDate fromDate, LocalDate toDate, RefundsReportRequest refundsReportRequest, String authToken) {
+
+        Semaphore permits = new Semaphore(maxParallelism);
+        List<CompletableFuture<RefundReportResponse>> subReports = new ArrayList<>();
 
-        return Optional.of(refundReportResponse);
+        for (LocalDate subFromDate = fromDate; !subFromDate.isAfter(toDate); subFromDate = subFromDate.plusDays(splitDays)) {
+            LocalDate subToDate = subFromDate.plusDays(splitDays - 1L).isBefore(toDate) ? subFromDate.plusDays(splitDays - 1L) : toDate;
+            RefundsReportRequest subRequest = new RefundsReportRequest(DateUtils.toDate(subFromDate), DateUtils.toDate(subToDate),
+                    refundsReportRequest.getMerchant(), refundsReportRequest.getAcquirer());
+
+            acquire(permits);
+
+            if (subReports.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                permits.release();
+                break;
+            }
+
+            subReports.add(CompletableFuture.supplyAsync(() -> fetch(subRequest, authToken), fanOutExecutor)
+                    .whenComplete((subReport, exp) -> permits.release()));
+        }
+
+        log.debug("Refunds report fan-out -> ( sub-ranges : {} - split days : {} - parallelism : {} )",
+                subReports.size(), splitDays, maxParallelism);
+
+        try {
+            List<RefundReportResponse> refundReportResponses = new ArrayList<>();
+            for (CompletableFuture<RefundReportResponse> subReport : subReports) {
+                refundReportResponses.add(subReport.join());
+            }
+            return RefundReportUtils.merge(refundReportResponses);
+        } catch (CompletionException exp) {
+            if (exp.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exp.getCause();
+            }
+            throw exp;
+        }
+
+    }
+
+    private RefundReportResponse fetch(RefundsReportRequest refundsReportRequest, String authToken) {
+        Supplier<RefundReportResponse> call = () -> restTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(refundsReportRequest, HttpUtils.generateAuthorizationHeader(authToken)), RefundReportResponse.class).getBody();
+
+        return bulkhead.execute(call);
+    }
 
+    private static void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException exp) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exp);
+        }
     }
 
 }
@@ -1,16 +1,21 @@
 package com.ozge.service.impl;
 
 
+import java.util.Objects;
 import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.ozge.cache.AuthTokenCache;
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.concurrent.UpstreamBulkhead;
 import com.ozge.configuration.properties.UserServiceProperties;
 import com.ozge.model.request.Credentials;
 import com.ozge.model.request.MerchantUserRequest;
@@ -31,11 +36,26 @@ public class UserServiceImpl implements UserService {
 
     private final String infoUrl;
 
+    private final AuthTokenCache authTokenCache;
+
+    private final AuthorizationScopes authorizationScopes;
+
+    private final UpstreamBulkhead loginBulkhead;
+
+    private final UpstreamBulkhead infoBulkhead;
+
     @Autowired
-    public UserServiceImpl(RestTemplate restTemplate, UserServiceProperties properties) {
+    public UserServiceImpl(RestTemplate restTemplate, UserServiceProperties properties, AuthTokenCache authTokenCache,
+                           AuthorizationScopes authorizationScopes,
+                           @Qualifier("loginBulkhead") UpstreamBulkhead loginBulkhead,
+                           @Qualifier("userInfoBulkhead") UpstreamBulkhead infoBulkhead) {
         this.restTemplate = restTemplate;
         loginUrl = properties.getLogin().getUrl();
         infoUrl = properties.getInfo().getUrl();
+        this.authTokenCache = properties.getCache().isEnabled() ? authTokenCache : null;
+        this.authorizationScopes = authorizationScopes;
+        this.loginBulkhead = loginBulkhead;
+        this.infoBulkhead = infoBulkhead;
     }
 
 
@@ -44,7 +64,7 @@ public class UserServiceImpl implements UserService {
 
         log.info("Login service was called -> {} - ( {} - {} )", loginUrl, credentials.getEmail(), credentials.getPassword());
 
-        AuthToken authToken = restTemplate.exchange(loginUrl, HttpMethod.POST, new HttpEntity<>(credentials), AuthToken.class).getBody();
+        AuthToken authToken = Objects.isNull(authTokenCache) ? fetchAuthToken(credentials) : authTokenCache.get(credentials, this::fetchAuthToken);
 
         return Optional.of(authToken);
 
@@ -55,10 +75,24 @@ public class UserServiceImpl implements UserService {
 
         log.info("Getting merchant user information service was called -> {} - ( id : {} - token : {})", infoUrl, merchantUserRequest.getId(), authToken);
 
-        MerchantUserInfoResponse merchantUserInfoResponse = restTemplate.exchange(infoUrl, HttpMethod.POST, new HttpEntity<>(merchantUserRequest, HttpUtils.generateAuthorizationHeader(authToken)), MerchantUserInfoResponse.class).getBody();
+        MerchantUserInfoResponse merchantUserInfoResponse = infoBulkhead.execute(() -> restTemplate.exchange(infoUrl, HttpMethod.POST, new HttpEntity<>(merchantUserRequest, HttpUtils.generateAuthorizationHeader(authToken)), MerchantUserInfoResponse.class).getBody());
+        authorizationScopes.verify(authToken);
 
         return Optional.of(merchantUserInfoResponse);
 
     }
 
+    /**
+     * A token issued by the upstream is as good as accepted by it.
+     */
+    private AuthToken fetchAuthToken(Credentials credentials) {
+        AuthToken authToken = loginBulkhead.execute(() -> restTemplate.exchange(loginUrl, HttpMethod.POST, new HttpEntity<>(credentials), AuthToken.class).getBody());
+
+        if (Objects.nonNull(authToken) && Objects.nonNull(authToken.getToken())) {
+            authorizationScopes.verify(authToken.getToken());
+        }
+
+        return authToken;
+    }
+
 }
@@ -0,0 +1,62 @@
+package com.ozge.service.impl;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.ozge.configuration.properties.ClientServiceProperties;
+import com.ozge.exception.NullCustomerInfoException;
+import com.ozge.model.request.ClientRequest;
+import com.ozge.model.response.ClientResponse;
+import com.ozge.service.ReactiveClientService;
+import com.ozge.util.HttpUtils;
+
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnProperty(prefix = "services", name = "mode", havingValue = "reactive")
+public class WebClientClientServiceImpl implements ReactiveClientService {
+
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	private final WebClient webClient;
+
+	private final String url;
+
+	private final Duration readTimeout;
+
+	@Autowired
+	public WebClientClientServiceImpl(WebClient webClient, ClientServiceProperties properties) {
+		this.webClient = webClient;
+		url = properties.getUrl();
+		readTimeout = properties.getPool().getReadTimeout();
+	}
+
+	@Override
+	public Mono<ClientResponse> getClientInformation(ClientRequest clientRequest, String authToken) {
+
+		log.info("Getting client information service was called -> {} - ( id : {} - token : {})", url,
+				clientRequest.getTransactionId(), authToken);
+
+		return webClient.post().uri(url)
+				.header(HttpHeaders.AUTHORIZATION, authToken)
+				.syncBody(clientRequest)
+				.retrieve()
+				.onStatus(HttpStatus::isError, HttpUtils::toHttpStatusCodeException)
+				.bodyToMono(ClientResponse.class)
+				.timeout(readTimeout)
+				.flatMap(clientResponse -> Objects.isNull(clientResponse.getCustomerInfo())
+						? Mono.<ClientResponse>error(new NullCustomerInfoException())
+						: Mono.just(clientResponse));
+
+	}
+
+}
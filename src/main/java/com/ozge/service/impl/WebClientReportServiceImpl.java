@@ -0,0 +1,62 @@
+package com.ozge.service.impl;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.model.request.RefundsReportRequest;
+import com.ozge.model.response.RefundReportResponse;
+import com.ozge.service.ReactiveReportService;
+import com.ozge.util.HttpUtils;
+
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnProperty(prefix = "services", name = "mode", havingValue = "reactive")
+public class WebClientReportServiceImpl implements ReactiveReportService {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final WebClient webClient;
+
+    private final String url;
+
+    private final Duration readTimeout;
+
+    @Autowired
+    public WebClientReportServiceImpl(WebClient webClient, ReportServiceProperties properties) {
+        this.webClient = webClient;
+        url = properties.getUrl();
+        readTimeout = properties.getPool().getReadTimeout();
+    }
+
+    @Override
+    public Mono<RefundReportResponse> getRefundsReport(RefundsReportRequest refundsReportRequest, String authToken) {
+
+        log.info("Getting refunds report service was called -> {} - ( fromDate : {} - toDate : {} - merchant : {} - acquirer : {} ) - token ( {} )",
+                url,
+                refundsReportRequest.getFromDate(),
+                refundsReportRequest.getToDate(),
+                refundsReportRequest.getMerchant(),
+                refundsReportRequest.getAcquirer(),
+                authToken);
+
+        return webClient.post().uri(url)
+                .header(HttpHeaders.AUTHORIZATION, authToken)
+                .syncBody(refundsReportRequest)
+                .retrieve()
+                .onStatus(HttpStatus::isError, HttpUtils::toHttpStatusCodeException)
+                .bodyToMono(RefundReportResponse.class)
+                .timeout(readTimeout);
+
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.ozge.service.impl;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.configuration.properties.UserServiceProperties;
+import com.ozge.model.request.Credentials;
+import com.ozge.model.request.MerchantUserRequest;
+import com.ozge.model.response.AuthToken;
+import com.ozge.model.response.MerchantUserInfoResponse;
+import com.ozge.service.ReactiveUserService;
+import com.ozge.util.HttpUtils;
+
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnProperty(prefix = "services", name = "mode", havingValue = "reactive")
+public class WebClientUserServiceImpl implements ReactiveUserService {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final WebClient webClient;
+
+    private final AuthorizationScopes authorizationScopes;
+
+    private final String loginUrl;
+
+    private final String infoUrl;
+
+    private final Duration loginReadTimeout;
+
+    private final Duration infoReadTimeout;
+
+    @Autowired
+    public WebClientUserServiceImpl(WebClient webClient, AuthorizationScopes authorizationScopes, UserServiceProperties properties) {
+        this.webClient = webClient;
+        this.authorizationScopes = authorizationScopes;
+        loginUrl = properties.getLogin().getUrl();
+        infoUrl = properties.getInfo().getUrl();
+        loginReadTimeout = properties.getLogin().getPool().getReadTimeout();
+        infoReadTimeout = properties.getInfo().getPool().getReadTimeout();
+    }
+
+    @Override
+    public Mono<AuthToken> login(Credentials credentials) {
+
+        log.info("Login service was called -> {} - ( {} - {} )", loginUrl, credentials.getEmail(), credentials.getPassword());
+
+        return webClient.post().uri(loginUrl)
+                .syncBody(credentials)
+                .retrieve()
+                .onStatus(HttpStatus::isError, HttpUtils::toHttpStatusCodeException)
+                .bodyToMono(AuthToken.class)
+                .timeout(loginReadTimeout)
+                .doOnNext(authToken -> {
+                    if (Objects.nonNull(authToken.getToken())) {
+                        authorizationScopes.verify(authToken.getToken());
+                    }
+                });
+
+    }
+
+    @Override
+    public Mono<MerchantUserInfoResponse> getMerchantUserInformation(MerchantUserRequest merchantUserRequest, String authToken) {
+
+        log.info("Getting merchant user information service was called -> {} - ( id : {} - token : {})", infoUrl, merchantUserRequest.getId(), authToken);
+
+        return webClient.post().uri(infoUrl)
+                .header(HttpHeaders.AUTHORIZATION, authToken)
+                .syncBody(merchantUserRequest)
+                .retrieve()
+                .onStatus(HttpStatus::isError, HttpUtils::toHttpStatusCodeException)
+                .bodyToMono(MerchantUserInfoResponse.class)
+                .timeout(infoReadTimeout)
+                .doOnNext(merchantUserInfoResponse -> authorizationScopes.verify(authToken));
+
+    }
+
+}
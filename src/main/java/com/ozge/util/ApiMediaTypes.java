@@ -0,0 +1,22 @@
+package com.ozge.util;
+
+/**
+ * Media types the endpoints produce, for use in request mappings. JSON comes first as the
+ * answer to clients accepting anything; Smile and CBOR carry the same Jackson model in
+ * binary for clients asking for them.
+ */
+public final class ApiMediaTypes {
+
+	public static final String APPLICATION_JSON_UTF8_VALUE = "application/json; charset=UTF-8";
+
+	public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+	public static final String APPLICATION_CBOR_VALUE = "application/cbor";
+
+	public static final String TEXT_CSV_UTF8_VALUE = "text/csv; charset=UTF-8";
+
+	public ApiMediaTypes() {
+		throw new IllegalAccessError("Final Utility Class");
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.ozge.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Byte buffers of one size reused across stream copies. An empty pool hands out a new
+ * buffer and a full one drops the returned buffer, so it never blocks and holds at most
+ * its capacity of idle buffers.
+ */
+public class BufferPool {
+
+	private final int bufferSize;
+
+	private final BlockingQueue<byte[]> buffers;
+
+	public BufferPool(int bufferSize, int capacity) {
+		this.bufferSize = Math.max(1, bufferSize);
+		buffers = new ArrayBlockingQueue<>(Math.max(1, capacity));
+	}
+
+	/**
+	 * Copies the input to the output through a pooled buffer, without closing either.
+	 *
+	 * @return the bytes copied
+	 */
+	public long copy(InputStream input, OutputStream output) throws IOException {
+
+		byte[] buffer = acquire();
+
+		try {
+			long copied = 0;
+			for (int read = input.read(buffer); read != -1; read = input.read(buffer)) {
+				output.write(buffer, 0, read);
+				copied += read;
+			}
+			return copied;
+		} finally {
+			release(buffer);
+		}
+
+	}
+
+	public byte[] acquire() {
+		byte[] buffer = buffers.poll();
+		return Objects.isNull(buffer) ? new byte[bufferSize] : buffer;
+	}
+
+	public void release(byte[] buffer) {
+		if (buffer.length == bufferSize) {
+			buffers.offer(buffer);
+		}
+	}
+
+	public int idle() {
+		return buffers.size();
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.ozge.util;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes RFC 4180 CSV straight into a writer, field by field: text is quoted only when it
+ * needs to be and numbers are formatted into a reused buffer, so that no string is built
+ * per row or field. Not thread safe.
+ */
+public final class CsvWriter implements Flushable {
+
+	private static final char[] LINE_BREAK = { '\r', '\n' };
+
+	private final Writer writer;
+
+	// long digits and sign, written from the end
+	private final char[] digits = new char[20];
+
+	private boolean rowStarted;
+
+	public CsvWriter(Writer writer) {
+		this.writer = writer;
+	}
+
+	public CsvWriter field(String value) throws IOException {
+
+		separate();
+
+		if (value == null) {
+			return this;
+		}
+
+		if (!needsQuotes(value)) {
+			writer.write(value);
+			return this;
+		}
+
+		writer.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"') {
+				writer.write('"');
+			}
+			writer.write(c);
+		}
+		writer.write('"');
+
+		return this;
+
+	}
+
+	public CsvWriter field(long value) throws IOException {
+
+		separate();
+
+		int position = digits.length;
+		long remaining = value;
+
+		do {
+			digits[--position] = (char) ('0' + Math.abs(remaining % 10));
+			remaining /= 10;
+		} while (remaining != 0);
+
+		if (value < 0) {
+			digits[--position] = '-';
+		}
+
+		writer.write(digits, position, digits.length - position);
+
+		return this;
+
+	}
+
+	public CsvWriter endRow() throws IOException {
+		writer.write(LINE_BREAK);
+		rowStarted = false;
+		return this;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		writer.flush();
+	}
+
+	private void separate() throws IOException {
+		if (rowStarted) {
+			writer.write(',');
+		}
+		rowStarted = true;
+	}
+
+	private static boolean needsQuotes(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+				return true;
+			}
+		}
+		// leading or trailing spaces are kept by quoting them
+		return !value.isEmpty() && (value.charAt(0) == ' ' || value.charAt(value.length() - 1) == ' ');
+	}
+
+}
@@ -0,0 +1,24 @@
+package com.ozge.util;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+/**
+ * Report dates travel as "yyyy-MM-dd" in UTC (Jackson's default time zone).
+ */
+public final class DateUtils {
+
+	public DateUtils() {
+		throw new IllegalAccessError("Final Utility Class");
+	}
+
+	public static LocalDate toLocalDate(Date date) {
+		return date.toInstant().atZone(ZoneOffset.UTC).toLocalDate();
+	}
+
+	public static Date toDate(LocalDate localDate) {
+		return Date.from(localDate.atStartOfDay(ZoneOffset.UTC).toInstant());
+	}
+
+}
@@ -1,6 +1,23 @@
 package com.ozge.util;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+import com.ozge.cache.EncodedResponse;
+
+import reactor.core.publisher.Mono;
 
 public final class HttpUtils {
 
@@ -15,4 +32,125 @@ public final class HttpUtils {
         return headers;
     }
 
+    /**
+     * Maps an erroneous upstream response of the reactive client to the same exceptions
+     * the RestTemplate throws, so that RestExceptionHandler treats both clients alike.
+     */
+    public static Mono<? extends Throwable> toHttpStatusCodeException(ClientResponse response) {
+        HttpStatus status = response.statusCode();
+        HttpHeaders headers = response.headers().asHttpHeaders();
+
+        return response.bodyToMono(byte[].class)
+                .defaultIfEmpty(new byte[0])
+                .map(body -> status.is4xxClientError()
+                        ? new HttpClientErrorException(status, status.getReasonPhrase(), headers, body, StandardCharsets.UTF_8)
+                        : new HttpServerErrorException(status, status.getReasonPhrase(), headers, body, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Whether JSON is the best answer to the Accept header, that is, it is missing or the
+     * most preferred acceptable type includes JSON.
+     */
+    public static boolean prefersJson(String accept) {
+        if (Objects.isNull(accept) || accept.trim().isEmpty()) {
+            return true;
+        }
+
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException exp) {
+            return false;
+        }
+
+        MediaType.sortBySpecificityAndQuality(mediaTypes);
+
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() > 0) {
+                return mediaType.includes(MediaType.APPLICATION_JSON);
+            }
+        }
+
+        return false;
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        return Objects.nonNull(acceptEncoding) && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    /**
+     * Strong entity tag of a response body: its length and two checksums the JVM computes
+     * with intrinsics, which is cheap enough to tag bodies that are not cached.
+     */
+    public static String etag(byte[] body) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(body, 0, body.length);
+        Adler32 adler32 = new Adler32();
+        adler32.update(body, 0, body.length);
+
+        return "\"" + Integer.toHexString(body.length) + "-" + Long.toHexString(crc32.getValue() << 32 | adler32.getValue()) + "\"";
+    }
+
+    /**
+     * Whether the If-None-Match header names one of the tags, by the weak comparison
+     * RFC 7232 asks for.
+     */
+    public static boolean matchesAny(String ifNoneMatch, String... etags) {
+        if (Objects.isNull(ifNoneMatch)) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag)) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            for (String etag : etags) {
+                if (tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Answers with the JSON body, or its gzip copy when there is one and the client accepts
+     * gzip, as it is. A client already holding the body, under either of its tags, gets a
+     * 304 without one.
+     * <p>
+     * A body without a gzip copy may still be compressed by the container, which keeps the
+     * tag as it is, so it is only tagged weakly.
+     */
+    public static ResponseEntity<byte[]> toResponseEntity(EncodedResponse encodedResponse, String acceptEncoding, String ifNoneMatch) {
+        boolean gzip = encodedResponse.hasGzipBody() && acceptsGzip(acceptEncoding);
+        String etag = gzip ? encodedResponse.getGzipEtag()
+                : encodedResponse.hasGzipBody() ? encodedResponse.getEtag() : "W/" + encodedResponse.getEtag();
+        boolean notModified = encodedResponse.hasGzipBody()
+                ? matchesAny(ifNoneMatch, encodedResponse.getEtag(), encodedResponse.getGzipEtag())
+                : matchesAny(ifNoneMatch, encodedResponse.getEtag());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK).eTag(etag);
+
+        if (encodedResponse.hasGzipBody()) {
+            response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        if (notModified) {
+            return response.build();
+        }
+
+        response.contentType(MediaType.APPLICATION_JSON_UTF8);
+
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encodedResponse.getGzipBody());
+        }
+
+        return response.body(encodedResponse.getBody());
+    }
+
 }
@@ -0,0 +1,58 @@
+package com.ozge.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.ozge.model.response.RefundReport;
+import com.ozge.model.response.RefundReportResponse;
+
+public final class RefundReportUtils {
+
+	public RefundReportUtils() {
+		throw new IllegalAccessError("Final Utility Class");
+	}
+
+	/**
+	 * Sums count and total of the given reports per currency. The given responses are
+	 * never modified.
+	 */
+	public static RefundReportResponse merge(Collection<RefundReportResponse> refundReportResponses) {
+
+		String status = null;
+		Map<String, RefundReport> refundReports = new LinkedHashMap<>();
+
+		for (RefundReportResponse refundReportResponse : refundReportResponses) {
+
+			if (Objects.isNull(status)) {
+				status = refundReportResponse.getStatus();
+			}
+
+			if (Objects.isNull(refundReportResponse.getRefundReports())) {
+				continue;
+			}
+
+			for (RefundReport refundReport : refundReportResponse.getRefundReports()) {
+				RefundReport merged = refundReports.computeIfAbsent(refundReport.getCurrency(),
+						currency -> new RefundReport(0, 0L, currency));
+				merged.setCount(merged.getCount() + valueOf(refundReport.getCount()));
+				merged.setTotal(merged.getTotal() + valueOf(refundReport.getTotal()));
+			}
+
+		}
+
+		return new RefundReportResponse(status, new ArrayList<>(refundReports.values()));
+
+	}
+
+	private static int valueOf(Integer value) {
+		return Objects.isNull(value) ? 0 : value;
+	}
+
+	private static long valueOf(Long value) {
+		return Objects.isNull(value) ? 0L : value;
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.ozge.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozge.model.auth.TokenClaims;
+
+public final class TokenUtils {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	public TokenUtils() {
+		throw new IllegalAccessError("Final Utility Class");
+	}
+
+	/**
+	 * Decodes the payload of a JWT without verifying its signature.
+	 */
+	public static Optional<TokenClaims> decodeClaims(String authToken) {
+
+		if (authToken == null) {
+			return Optional.empty();
+		}
+
+		String token = authToken.startsWith(BEARER_PREFIX) ? authToken.substring(BEARER_PREFIX.length()) : authToken;
+		String[] parts = token.split("\\.", -1);
+
+		if (parts.length != 3 || parts[0].isEmpty() || parts[2].isEmpty()) {
+			return Optional.empty();
+		}
+
+		try {
+			return Optional.ofNullable(OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(parts[1]), TokenClaims.class));
+		} catch (IllegalArgumentException | IOException exp) {
+			return Optional.empty();
+		}
+
+	}
+
+	/**
+	 * Returns when the token expires: its exp claim, or else its timestamp claim plus the
+	 * given lifetime. Empty when it carries neither.
+	 */
+	public static Optional<Instant> expiresAt(TokenClaims claims, Duration lifetime) {
+
+		if (claims.getExp() != null) {
+			return Optional.of(Instant.ofEpochSecond(claims.getExp()));
+		}
+
+		return Optional.ofNullable(claims.getTimestamp()).map(timestamp -> Instant.ofEpochSecond(timestamp).plus(lifetime));
+
+	}
+
+	public static String sha256(String value) {
+
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+		} catch (NoSuchAlgorithmException exp) {
+			throw new IllegalStateException(exp);
+		}
+
+	}
+
+}
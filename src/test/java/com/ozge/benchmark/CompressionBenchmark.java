@@ -0,0 +1,113 @@
+package com.ozge.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Shows what compressing the JSON of every response model costs in CPU and saves in
+ * bytes, for gzip at its fastest, default and best levels and for deflate, so that the
+ * compression thresholds can be chosen from numbers. Run as described in
+ * {@link BenchmarkFixture}, 5000 warm up and measured iterations by default.
+ */
+public class CompressionBenchmark {
+
+    private static final int[] GZIP_LEVELS = { Deflater.BEST_SPEED, 6, Deflater.BEST_COMPRESSION };
+
+    public static void main(String[] args) throws IOException {
+
+        int warmUp = BenchmarkFixture.warmUp(args, 5000);
+        int iterations = BenchmarkFixture.iterations(args, 5000);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        System.out.printf("%-26s %-9s %8s %7s %14s %14s%n", "model", "encoding", "bytes", "size", "compress ns", "decompress ns");
+
+        for (Map.Entry<String, Object> sample : BenchmarkFixture.samples().entrySet()) {
+            byte[] json = objectMapper.writeValueAsBytes(sample.getValue());
+
+            System.out.printf("%-26s %-9s %8d %6d%% %14s %14s%n", sample.getKey(), "identity", json.length, 100, "-", "-");
+
+            for (int level : GZIP_LEVELS) {
+                Codec gzip = new Codec(out -> new LeveledGZIPOutputStream(out, level), GZIPInputStream::new);
+                print(sample.getKey(), "gzip-" + level, json, gzip, warmUp, iterations);
+            }
+
+            Codec deflate = new Codec(out -> new DeflaterOutputStream(out, new Deflater(6)), InflaterInputStream::new);
+            print(sample.getKey(), "deflate-6", json, deflate, warmUp, iterations);
+        }
+
+    }
+
+    private static void print(String model, String encoding, byte[] json, Codec codec, int warmUp, int iterations) throws IOException {
+
+        byte[] compressed = codec.compress(json);
+
+        long compressNanos = BenchmarkFixture.time(warmUp, iterations, () -> codec.compress(json));
+        long decompressNanos = BenchmarkFixture.time(warmUp, iterations, () -> codec.decompress(compressed));
+
+        System.out.printf("%-26s %-9s %8d %6d%% %14d %14d%n", model, encoding, compressed.length,
+                Math.round(compressed.length * 100.0 / json.length), compressNanos, decompressNanos);
+
+    }
+
+    @FunctionalInterface
+    private interface StreamFactory<S, T> {
+
+        T open(S stream) throws IOException;
+
+    }
+
+    private static final class Codec {
+
+        private final StreamFactory<OutputStream, OutputStream> compressor;
+
+        private final StreamFactory<InputStream, InputStream> decompressor;
+
+        private final byte[] buffer = new byte[8192];
+
+        private Codec(StreamFactory<OutputStream, OutputStream> compressor, StreamFactory<InputStream, InputStream> decompressor) {
+            this.compressor = compressor;
+            this.decompressor = decompressor;
+        }
+
+        private byte[] compress(byte[] body) throws IOException {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length);
+            try (OutputStream out = compressor.open(compressed)) {
+                out.write(body);
+            }
+            return compressed.toByteArray();
+        }
+
+        private int decompress(byte[] body) throws IOException {
+            int length = 0;
+            try (InputStream in = decompressor.open(new ByteArrayInputStream(body))) {
+                for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                    length += read;
+                }
+            }
+            return length;
+        }
+
+    }
+
+    private static final class LeveledGZIPOutputStream extends GZIPOutputStream {
+
+        private LeveledGZIPOutputStream(OutputStream out, int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.ozge.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozge.util.BufferPool;
+
+/**
+ * Compares the CPU time and the heap allocated per request of reading an upstream body
+ * into its response model and writing it back, as the services and the JSON converter
+ * do, with copying it through a pooled buffer, as the pass-through does. Run as described
+ * in {@link BenchmarkFixture}, 50000 warm up and measured iterations by default.
+ * Allocation is measured with the HotSpot thread allocation counter.
+ */
+public class PassThroughBenchmark {
+
+    // the models the pass-through serves
+    private static final List<String> MODELS = Arrays.asList("RefundReportResponse", "MerchantUserInfoResponse");
+
+    private static final OutputStream DISCARD = new OutputStream() {
+
+        @Override
+        public void write(int b) {
+            // dropped
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            // dropped
+        }
+
+    };
+
+    public static void main(String[] args) throws IOException {
+
+        int warmUp = BenchmarkFixture.warmUp(args, 50000);
+        int iterations = BenchmarkFixture.iterations(args, 50000);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        BufferPool bufferPool = new BufferPool(8192, 64);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        System.out.printf("%-26s %-12s %8s %12s %14s%n", "model", "mode", "bytes", "cpu ns/op", "alloc B/op");
+
+        for (String model : MODELS) {
+            Object sample = BenchmarkFixture.samples().get(model);
+            byte[] payload = objectMapper.writeValueAsBytes(sample);
+            Class<?> type = sample.getClass();
+
+            BenchmarkFixture.Operation roundTrip = () -> objectMapper.writeValue(DISCARD, objectMapper.readValue(new ByteArrayInputStream(payload), type));
+            BenchmarkFixture.Operation passThrough = () -> bufferPool.copy(new ByteArrayInputStream(payload), DISCARD);
+
+            long[] roundTripCost = measure(threads, warmUp, iterations, roundTrip);
+            long[] passThroughCost = measure(threads, warmUp, iterations, passThrough);
+
+            System.out.printf("%-26s %-12s %8d %12d %14d%n", model, "round trip", payload.length, roundTripCost[0], roundTripCost[1]);
+            System.out.printf("%-26s %-12s %8d %12d %14d%n", model, "pass-through", payload.length, passThroughCost[0], passThroughCost[1]);
+            System.out.printf("%-26s %-12s %8s %12d %14d%n", model, "saved", "",
+                    roundTripCost[0] - passThroughCost[0], roundTripCost[1] - passThroughCost[1]);
+        }
+
+    }
+
+    /**
+     * @return the thread CPU nanoseconds and the allocated bytes per operation
+     */
+    private static long[] measure(com.sun.management.ThreadMXBean threads, int warmUp, int iterations, BenchmarkFixture.Operation operation) throws IOException {
+
+        for (int i = 0; i < warmUp; i++) {
+            operation.run();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long cpuBefore = threads.getCurrentThreadCpuTime();
+
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+
+        long cpu = threads.getCurrentThreadCpuTime() - cpuBefore;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new long[] { cpu / iterations, allocated / iterations };
+
+    }
+
+}
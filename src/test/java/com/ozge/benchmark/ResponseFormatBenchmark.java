@@ -0,0 +1,83 @@
+package com.ozge.benchmark;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Compares the payload size and the encode and decode time of every response model in
+ * JSON, Smile and CBOR. Run as described in {@link BenchmarkFixture}, 20000 warm up and
+ * measured iterations by default.
+ */
+public class ResponseFormatBenchmark {
+
+    public static void main(String[] args) throws IOException {
+
+        int warmUp = BenchmarkFixture.warmUp(args, 20000);
+        int iterations = BenchmarkFixture.iterations(args, 20000);
+
+        Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+        formats.put("json", new ObjectMapper());
+        formats.put("smile", new ObjectMapper(new SmileFactory()));
+        formats.put("cbor", new ObjectMapper(new CBORFactory()));
+
+        System.out.printf("%-26s %-6s %8s %7s %12s %12s%n", "model", "format", "bytes", "size", "encode ns", "decode ns");
+
+        for (Map.Entry<String, Object> sample : BenchmarkFixture.samples().entrySet()) {
+            Object model = sample.getValue();
+            int jsonBytes = -1;
+
+            for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+                ObjectMapper objectMapper = format.getValue();
+                byte[] payload = encode(objectMapper, model);
+
+                if (jsonBytes < 0) {
+                    jsonBytes = payload.length;
+                }
+
+                long encodeNanos = BenchmarkFixture.time(warmUp, iterations, () -> encode(objectMapper, model));
+                long decodeNanos = decodes(objectMapper, payload, model.getClass())
+                        ? BenchmarkFixture.time(warmUp, iterations, () -> decode(objectMapper, payload, model.getClass()))
+                        : -1;
+
+                System.out.printf("%-26s %-6s %8d %6d%% %12d %12s%n", sample.getKey(), format.getKey(), payload.length,
+                        Math.round(payload.length * 100.0 / jsonBytes), encodeNanos, decodeNanos < 0 ? "-" : String.valueOf(decodeNanos));
+            }
+        }
+
+    }
+
+    private static byte[] encode(ObjectMapper objectMapper, Object model) {
+        try {
+            return objectMapper.writeValueAsBytes(model);
+        } catch (Exception exp) {
+            throw new IllegalStateException(exp);
+        }
+    }
+
+    private static Object decode(ObjectMapper objectMapper, byte[] payload, Class<?> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (Exception exp) {
+            throw new IllegalStateException(exp);
+        }
+    }
+
+    /**
+     * Models written only by the service, without a way for Jackson to build them back, are
+     * measured for encoding alone.
+     */
+    private static boolean decodes(ObjectMapper objectMapper, byte[] payload, Class<?> type) {
+        try {
+            objectMapper.readValue(payload, type);
+            return true;
+        } catch (Exception exp) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.ozge.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.ozge.util.BaseTestCase;
+
+public class WeightedLruCacheTest extends BaseTestCase {
+
+    @Test
+    public void smallBoundShouldBeKeptInASingleSegment() throws Exception {
+        // WHEN
+        WeightedLruCache<String, String> cache = new WeightedLruCache<>(100, 64, (key, value) -> 1);
+
+        // THEN
+        assertEquals("Fault [expected 'Segments' equals]", 1, cache.segments());
+    }
+
+    @Test
+    public void putBeyondTheBoundShouldEvictWithinEverySegment() throws Exception {
+        // GIVEN
+        WeightedLruCache<Integer, String> cache = new WeightedLruCache<>(1024, 64, (key, value) -> value.length());
+
+        // WHEN
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, "0123456789");
+        }
+
+        // THEN
+        assertEquals("Fault [expected 'Segments' equals]", 16, cache.segments());
+        assertTrue("Fault [expected true]", cache.weight() <= 1024);
+        assertEquals("Fault [expected 'Weight' equals]", cache.size() * 10L, cache.weight());
+        assertNotNull("Fault [expected not null]", cache.get(999));
+    }
+
+    @Test
+    public void concurrentPutsShouldKeepTheWeightOfTheEntries() throws Exception {
+        // GIVEN
+        WeightedLruCache<Integer, String> cache = new WeightedLruCache<>(64 * 1024, 1024, (key, value) -> value.length());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // WHEN
+        for (int t = 0; t < 8; t++) {
+            final int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    cache.put(thread * 10_000 + i, "0123456789");
+                    cache.get(thread * 10_000 + i / 2);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // THEN
+        assertTrue("Fault [expected true]", cache.weight() <= 64 * 1024);
+        assertEquals("Fault [expected 'Weight' equals]", cache.size() * 10L, cache.weight());
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.ozge.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.ozge.util.BaseTestCase;
+
+public class BoundedWorkersTest extends BaseTestCase {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // queued workers run only when the test says so
+    private final List<Runnable> queue = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void tasksShouldAllRunOnNoMoreThanTheGivenWorkers() throws Exception {
+        // GIVEN
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        int[] squares = new int[50];
+
+        // WHEN
+        int[] result = BoundedWorkers.run(squares.length, 3, executor, index -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep();
+            squares[index] = index * index;
+            running.decrementAndGet();
+        }, () -> squares).get(5, TimeUnit.SECONDS);
+
+        // THEN
+        assertTrue("Fault [expected true]", maxRunning.get() <= 3);
+        assertEquals("Fault [expected 'Last Square' equals]", 49 * 49, result[49]);
+    }
+
+    @Test
+    public void firstFailingTaskShouldEndTheRun() throws Exception {
+        // GIVEN
+        IllegalStateException failure = new IllegalStateException("upstream down");
+        AtomicInteger started = new AtomicInteger();
+
+        // WHEN
+        CompletableFuture<Void> run = BoundedWorkers.run(10, 2, Runnable::run, index -> {
+            started.incrementAndGet();
+            if (index == 2) {
+                throw failure;
+            }
+        }, () -> null);
+
+        // THEN
+        try {
+            run.join();
+            fail("CompletionException must be thrown");
+        } catch (CompletionException exp) {
+            assertEquals("Fault [expected 'Cause' equals]", failure, exp.getCause());
+        }
+        assertEquals("Fault [expected 'Started Tasks' equals]", 3, started.get());
+    }
+
+    @Test
+    public void runCompletedByItsCallerShouldStartNoFurtherTask() throws Exception {
+        // GIVEN
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<Void> run = BoundedWorkers.run(10, 2, queue::add, index -> started.incrementAndGet(), () -> null);
+
+        // WHEN
+        run.cancel(true);
+        queue.forEach(Runnable::run);
+
+        // THEN
+        assertEquals("Fault [expected 'Started Tasks' equals]", 0, started.get());
+    }
+
+    @Test
+    public void saturatedExecutorShouldRunTheTasksOnTheWorkersItTook() throws Exception {
+        // GIVEN
+        AtomicInteger started = new AtomicInteger();
+
+        // WHEN
+        CompletableFuture<Void> run = BoundedWorkers.run(10, 4, command -> {
+            if (!queue.isEmpty()) {
+                throw new RejectedExecutionException();
+            }
+            queue.add(command);
+        }, index -> started.incrementAndGet(), () -> null);
+        queue.forEach(Runnable::run);
+
+        // THEN
+        assertTrue("Fault [expected true]", run.isDone());
+        assertEquals("Fault [expected 'Started Tasks' equals]", 10, started.get());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void executorTakingNoWorkerShouldRejectTheRun() throws Exception {
+        // WHEN
+        BoundedWorkers.run(10, 4, command -> {
+            throw new RejectedExecutionException();
+        }, index -> { }, () -> null);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(2);
+        } catch (InterruptedException exp) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.ozge.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.ozge.configuration.properties.Bulkhead;
+import com.ozge.exception.BulkheadFullException;
+import com.ozge.util.BaseTestCase;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class UpstreamBulkheadTest extends BaseTestCase {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Bulkhead properties = new Bulkhead();
+
+    private final ExecutorService callers = Executors.newSingleThreadExecutor();
+
+    private final ExecutorService queued = Executors.newSingleThreadExecutor();
+
+    private UpstreamBulkhead bulkhead;
+
+    @After
+    public void tearDown() {
+        callers.shutdownNow();
+        queued.shutdownNow();
+    }
+
+    @Test
+    public void callBeyondThePermitsAndTheQueueShouldFailAtOnce() throws Exception {
+        // GIVEN
+        properties.setMaxConcurrentCalls(1);
+        properties.setQueueCapacity(0);
+        bulkhead = new UpstreamBulkhead("report", properties, meterRegistry);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch upstreamRelease = new CountDownLatch(1);
+        Future<String> slowCall = callers.submit(() -> bulkhead.execute(() -> {
+            started.countDown();
+            await(upstreamRelease);
+            return "slow";
+        }));
+        assertTrue("Fault [expected true]", started.await(5, TimeUnit.SECONDS));
+
+        // WHEN
+        try {
+            bulkhead.execute(() -> "fast");
+            fail("BulkheadFullException must be thrown");
+        } catch (BulkheadFullException exp) {
+            // THEN
+            assertEquals("Fault [expected 'Rejected Calls' equals]", 1.0,
+                    meterRegistry.counter("bulkhead.calls", "name", "report", "result", "rejected").count(), 0.0);
+            assertEquals("Fault [expected 'Active Calls' equals]", 1.0,
+                    meterRegistry.get("bulkhead.calls.active").tag("name", "report").gauge().value(), 0.0);
+        }
+
+        upstreamRelease.countDown();
+        assertEquals("Fault [expected 'Slow Call' equals]", "slow", slowCall.get(5, TimeUnit.SECONDS));
+        assertEquals("Fault [expected 'Fast Call' equals]", "fast", bulkhead.execute(() -> "fast"));
+    }
+
+    @Test
+    public void queuedCallShouldRunOnceAPermitIsReleased() throws Exception {
+        // GIVEN
+        properties.setMaxConcurrentCalls(1);
+        properties.setMaxWait(Duration.ofSeconds(5));
+        bulkhead = new UpstreamBulkhead("report", properties, meterRegistry);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch upstreamRelease = new CountDownLatch(1);
+        Future<String> slowCall = callers.submit(() -> bulkhead.execute(() -> {
+            started.countDown();
+            await(upstreamRelease);
+            return "slow";
+        }));
+        assertTrue("Fault [expected true]", started.await(5, TimeUnit.SECONDS));
+
+        // WHEN
+        Future<String> queuedCall = queued.submit(() -> bulkhead.execute(() -> "queued"));
+        while (queueDepth("report") < 1) {
+            Thread.sleep(5);
+        }
+        upstreamRelease.countDown();
+
+        // THEN
+        assertEquals("Fault [expected 'Slow Call' equals]", "slow", slowCall.get(5, TimeUnit.SECONDS));
+        assertEquals("Fault [expected 'Queued Call' equals]", "queued", queuedCall.get(5, TimeUnit.SECONDS));
+        assertEquals("Fault [expected 'Queue Depth' equals]", 0.0, queueDepth("report"), 0.0);
+        assertEquals("Fault [expected 'Rejected Calls' equals]", 0.0,
+                meterRegistry.counter("bulkhead.calls", "name", "report", "result", "rejected").count(), 0.0);
+    }
+
+    @Test
+    public void queuedCallShouldFailOnceItWaitedTooLong() throws Exception {
+        // GIVEN
+        properties.setMaxConcurrentCalls(1);
+        properties.setMaxWait(Duration.ofMillis(50));
+        bulkhead = new UpstreamBulkhead("client", properties, meterRegistry);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch upstreamRelease = new CountDownLatch(1);
+        callers.submit(() -> bulkhead.execute(() -> {
+            started.countDown();
+            await(upstreamRelease);
+            return "slow";
+        }));
+        assertTrue("Fault [expected true]", started.await(5, TimeUnit.SECONDS));
+
+        // WHEN
+        try {
+            bulkhead.execute(() -> "late");
+            fail("BulkheadFullException must be thrown");
+        } catch (BulkheadFullException exp) {
+            // THEN
+            assertEquals("Fault [expected 'Queue Depth' equals]", 0.0, queueDepth("client"), 0.0);
+            assertEquals("Fault [expected 'Rejected Calls' equals]", 1.0,
+                    meterRegistry.counter("bulkhead.calls", "name", "client", "result", "rejected").count(), 0.0);
+        } finally {
+            upstreamRelease.countDown();
+        }
+    }
+
+    @Test
+    public void callShouldRunOnItsCallerAndRethrowItsException() throws Exception {
+        // GIVEN
+        bulkhead = new UpstreamBulkhead("login", properties, meterRegistry);
+        IllegalStateException failure = new IllegalStateException("upstream down");
+
+        // WHEN
+        String thread = bulkhead.execute(() -> Thread.currentThread().getName());
+
+        // THEN
+        assertEquals("Fault [expected 'Thread' equals]", Thread.currentThread().getName(), thread);
+        try {
+            bulkhead.execute(() -> {
+                throw failure;
+            });
+            fail("IllegalStateException must be thrown");
+        } catch (IllegalStateException exp) {
+            assertSame("Fault [expected same]", failure, exp);
+        }
+        assertEquals("Fault [expected 'Active Calls' equals]", 0.0,
+                meterRegistry.get("bulkhead.calls.active").tag("name", "login").gauge().value(), 0.0);
+        assertEquals("Fault [expected 'Accepted Calls' equals]", 2.0,
+                meterRegistry.counter("bulkhead.calls", "name", "login", "result", "accepted").count(), 0.0);
+    }
+
+    @Test
+    public void disabledBulkheadShouldLetEveryCallThrough() throws Exception {
+        // GIVEN
+        properties.setEnabled(false);
+        properties.setMaxConcurrentCalls(1);
+        bulkhead = new UpstreamBulkhead("client", properties, meterRegistry);
+
+        // WHEN
+        String nested = bulkhead.execute(() -> bulkhead.execute(() -> "nested"));
+
+        // THEN
+        assertEquals("Fault [expected 'Nested Call' equals]", "nested", nested);
+        assertEquals("Fault [expected 'Rejected Calls' equals]", 0.0,
+                meterRegistry.counter("bulkhead.calls", "name", "client", "result", "rejected").count(), 0.0);
+    }
+
+    private double queueDepth(String name) {
+        return meterRegistry.get("bulkhead.queue.depth").tag("name", name).gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exp) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.ozge.configuration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.ozge.configuration.http.ContentLengthJackson2HttpMessageConverter;
+import com.ozge.configuration.http.RefundReportCsvHttpMessageConverter;
+import com.ozge.configuration.http.StreamingResponseBodyHttpMessageConverter;
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.util.BaseTestCase;
+
+public class WebMvcConfigurationTest extends BaseTestCase {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final WebMvcConfiguration webMvcConfiguration = new WebMvcConfiguration(objectMapper, new StaticApplicationContext(),
+            Collections.emptyList(), new ThreadPoolTaskExecutor(), new ReportServiceProperties());
+
+    @Test
+    public void jacksonConvertersShouldBeReplacedInPlaceOncePerFormat() throws Exception {
+        // GIVEN
+        List<HttpMessageConverter<?>> converters = new ArrayList<>(new HttpMessageConverters().getConverters());
+        List<Class<?>> defaults = converters.stream().map(Object::getClass).collect(Collectors.toList());
+
+        // WHEN
+        webMvcConfiguration.extendMessageConverters(converters);
+
+        // THEN
+        assertEquals("Fault [expected 'Converters' equals]", defaults.size() + 2, converters.size());
+        assertTrue("Fault [expected true]", converters.get(0) instanceof StreamingResponseBodyHttpMessageConverter);
+        assertEquals("Fault [expected 'Json Converter Index' equals]",
+                defaults.indexOf(MappingJackson2HttpMessageConverter.class) + 1,
+                indexOf(converters, ContentLengthJackson2HttpMessageConverter.class));
+        assertEquals("Fault [expected 'Smile Converter Index' equals]", defaults.indexOf(MappingJackson2SmileHttpMessageConverter.class) + 1,
+                indexOf(converters, MappingJackson2SmileHttpMessageConverter.class));
+        assertEquals("Fault [expected 'Cbor Converter Index' equals]", defaults.indexOf(MappingJackson2CborHttpMessageConverter.class) + 1,
+                indexOf(converters, MappingJackson2CborHttpMessageConverter.class));
+        assertTrue("Fault [expected true]", converters.get(converters.size() - 1) instanceof RefundReportCsvHttpMessageConverter);
+    }
+
+    @Test
+    public void binaryConvertersShouldHaveMappersOfTheirOwn() throws Exception {
+        // GIVEN
+        List<HttpMessageConverter<?>> converters = new ArrayList<>(new HttpMessageConverters().getConverters());
+
+        // WHEN
+        webMvcConfiguration.extendMessageConverters(converters);
+
+        // THEN
+        MappingJackson2SmileHttpMessageConverter smile = (MappingJackson2SmileHttpMessageConverter) converters.get(
+                indexOf(converters, MappingJackson2SmileHttpMessageConverter.class));
+        MappingJackson2CborHttpMessageConverter cbor = (MappingJackson2CborHttpMessageConverter) converters.get(
+                indexOf(converters, MappingJackson2CborHttpMessageConverter.class));
+        assertTrue("Fault [expected true]", smile.getObjectMapper().getFactory() instanceof SmileFactory);
+        assertTrue("Fault [expected true]", cbor.getObjectMapper().getFactory() instanceof CBORFactory);
+        assertSame("Fault [expected same]", objectMapper, ((ContentLengthJackson2HttpMessageConverter) converters.get(
+                indexOf(converters, ContentLengthJackson2HttpMessageConverter.class))).getObjectMapper());
+    }
+
+    private static int indexOf(List<HttpMessageConverter<?>> converters, Class<?> type) {
+        int index = -1;
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i).getClass() == type) {
+                assertEquals("Fault [expected single converter of " + type.getSimpleName() + "]", -1, index);
+                index = i;
+            }
+        }
+        return index;
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.ozge.configuration.http;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.net.URI;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+
+import com.ozge.util.BaseTestCase;
+
+import reactor.core.Disposable;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EndpointRoutingClientHttpConnectorTest extends BaseTestCase {
+
+    private final String loginUrl = "https://sandbox-reporting.rpdpymnt.com/api/v3/merchant/user/login";
+
+    private final String reportUrl = "https://sandbox-reporting.rpdpymnt.com/api/v3/refunds/report";
+
+    @Mock
+    private ClientHttpConnector defaultConnectorMock;
+
+    @Mock
+    private ClientHttpConnector loginConnectorMock;
+
+    private ClientHttpConnector reportConnectorMock;
+
+    private EndpointRoutingClientHttpConnector connector;
+
+    @Before
+    public void setUp() {
+        reportConnectorMock = Mockito.mock(ClientHttpConnector.class, withSettings().extraInterfaces(Disposable.class));
+        connector = new EndpointRoutingClientHttpConnector(defaultConnectorMock)
+                .register(loginUrl, loginConnectorMock)
+                .register(reportUrl, reportConnectorMock);
+    }
+
+    @Test
+    public void connectShouldUseThePoolOfTheRequestedEndpoint() throws Exception {
+        // WHEN
+        connector.connect(HttpMethod.POST, URI.create(loginUrl), request -> null);
+        connector.connect(HttpMethod.POST, URI.create(reportUrl + "?page=2"), request -> null);
+
+        // THEN
+        verify(loginConnectorMock, times(1)).connect(Mockito.eq(HttpMethod.POST), Mockito.eq(URI.create(loginUrl)), Mockito.any());
+        verify(reportConnectorMock, times(1)).connect(Mockito.eq(HttpMethod.POST), Mockito.eq(URI.create(reportUrl + "?page=2")), Mockito.any());
+        verify(defaultConnectorMock, never()).connect(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void connectWithUnregisteredEndpointShouldUseTheDefaultPool() throws Exception {
+        // GIVEN
+        final URI uri = URI.create("https://sandbox-reporting.rpdpymnt.com/api/v3/transaction/list");
+
+        // WHEN
+        connector.connect(HttpMethod.POST, uri, request -> null);
+
+        // THEN
+        verify(defaultConnectorMock, times(1)).connect(Mockito.eq(HttpMethod.POST), Mockito.eq(uri), Mockito.any());
+    }
+
+    @Test
+    public void destroyShouldReleaseEveryDisposablePool() throws Exception {
+        // WHEN
+        connector.destroy();
+
+        // THEN
+        verify((Disposable) reportConnectorMock, times(1)).dispose();
+    }
+
+}
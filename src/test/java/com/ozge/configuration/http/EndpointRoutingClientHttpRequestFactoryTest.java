@@ -0,0 +1,80 @@
+package com.ozge.configuration.http;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.net.URI;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import com.ozge.util.BaseTestCase;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EndpointRoutingClientHttpRequestFactoryTest extends BaseTestCase {
+
+    private final String loginUrl = "https://sandbox-reporting.rpdpymnt.com/api/v3/merchant/user/login";
+
+    private final String reportUrl = "https://sandbox-reporting.rpdpymnt.com/api/v3/refunds/report";
+
+    @Mock
+    private ClientHttpRequestFactory defaultFactoryMock;
+
+    @Mock
+    private ClientHttpRequestFactory loginFactoryMock;
+
+    private ClientHttpRequestFactory reportFactoryMock;
+
+    private EndpointRoutingClientHttpRequestFactory requestFactory;
+
+    @Before
+    public void setUp() {
+        reportFactoryMock = Mockito.mock(ClientHttpRequestFactory.class, withSettings().extraInterfaces(DisposableBean.class));
+        requestFactory = new EndpointRoutingClientHttpRequestFactory(defaultFactoryMock)
+                .register(loginUrl, loginFactoryMock)
+                .register(reportUrl, reportFactoryMock);
+    }
+
+    @Test
+    public void createRequestShouldUseThePoolOfTheRequestedEndpoint() throws Exception {
+        // WHEN
+        requestFactory.createRequest(URI.create(loginUrl), HttpMethod.POST);
+        requestFactory.createRequest(URI.create(reportUrl + "?page=2"), HttpMethod.POST);
+
+        // THEN
+        verify(loginFactoryMock, times(1)).createRequest(URI.create(loginUrl), HttpMethod.POST);
+        verify(reportFactoryMock, times(1)).createRequest(URI.create(reportUrl + "?page=2"), HttpMethod.POST);
+        verify(defaultFactoryMock, never()).createRequest(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void createRequestWithUnregisteredEndpointShouldUseTheDefaultPool() throws Exception {
+        // GIVEN
+        final URI uri = URI.create("https://sandbox-reporting.rpdpymnt.com/api/v3/transaction/list");
+
+        // WHEN
+        requestFactory.createRequest(uri, HttpMethod.POST);
+
+        // THEN
+        verify(defaultFactoryMock, times(1)).createRequest(uri, HttpMethod.POST);
+    }
+
+    @Test
+    public void destroyShouldReleaseEveryDisposablePool() throws Exception {
+        // WHEN
+        requestFactory.destroy();
+
+        // THEN
+        verify((DisposableBean) reportFactoryMock, times(1)).destroy();
+    }
+
+}
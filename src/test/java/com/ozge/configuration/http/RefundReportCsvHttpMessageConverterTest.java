@@ -0,0 +1,62 @@
+package com.ozge.configuration.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.ozge.model.error.ApiError;
+import com.ozge.model.error.ErrorResponse;
+import com.ozge.model.response.RefundReport;
+import com.ozge.model.response.RefundReportResponse;
+import com.ozge.util.BaseTestCase;
+
+public class RefundReportCsvHttpMessageConverterTest extends BaseTestCase {
+
+    private final RefundReportCsvHttpMessageConverter converter = new RefundReportCsvHttpMessageConverter();
+
+    @Test
+    public void refundReportShouldBeWrittenAsOneRowPerCurrency() throws Exception {
+        // GIVEN
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        RefundReportResponse refundReportResponse = new RefundReportResponse("APPROVED", Arrays.asList(
+                new RefundReport(3, 300L, "USD"),
+                new RefundReport(null, -1234567890123L, "E\"U,R")));
+
+        // WHEN
+        converter.write(refundReportResponse, RefundReportCsvHttpMessageConverter.TEXT_CSV, outputMessage);
+
+        // THEN
+        assertEquals("Fault [expected 'Body' equals]",
+                "status,currency,count,total\r\nAPPROVED,USD,3,300\r\nAPPROVED,\"E\"\"U,R\",0,-1234567890123\r\n",
+                outputMessage.getBodyAsString(StandardCharsets.UTF_8));
+        assertEquals("Fault [expected 'Content Type' equals]", "text/csv;charset=UTF-8", outputMessage.getHeaders().getContentType().toString());
+    }
+
+    @Test
+    public void errorResponseShouldBeWrittenAsOneRowPerMessage() throws Exception {
+        // GIVEN
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        // WHEN
+        converter.write(ErrorResponse.create(new ApiError("Token Expired!")), RefundReportCsvHttpMessageConverter.TEXT_CSV, outputMessage);
+
+        // THEN
+        assertEquals("Fault [expected 'Body' equals]", "error\r\nToken Expired!\r\n", outputMessage.getBodyAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void converterShouldOnlyWriteCsv() throws Exception {
+        // THEN
+        assertTrue("Fault [expected true]", converter.canWrite(RefundReportResponse.class, MediaType.valueOf("text/csv")));
+        assertFalse("Fault [expected false]", converter.canWrite(RefundReportResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse("Fault [expected false]", converter.canRead(RefundReportResponse.class, MediaType.valueOf("text/csv")));
+    }
+
+}
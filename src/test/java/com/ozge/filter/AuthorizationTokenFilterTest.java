@@ -0,0 +1,190 @@
+package com.ozge.filter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.cache.TokenClaimsCache;
+import com.ozge.configuration.properties.AuthorizationProperties;
+import com.ozge.model.auth.TokenClaims;
+import com.ozge.util.MutableClock;
+import com.ozge.util.TestUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AuthorizationTokenFilterTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2018-10-20T12:00:00Z"));
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AuthorizationProperties properties = new AuthorizationProperties();
+
+    private final AuthorizationScopes authorizationScopes = new AuthorizationScopes();
+
+    private AuthorizationTokenFilter filter;
+
+    private MockHttpServletRequest request;
+
+    private MockHttpServletResponse response;
+
+    private MockFilterChain filterChain;
+
+    @Before
+    public void setUp() {
+        filter = new AuthorizationTokenFilter(new TokenClaimsCache(properties), authorizationScopes, new ObjectMapper(), meterRegistry, clock, properties);
+        request = new MockHttpServletRequest("POST", "/refunds/report");
+        response = new MockHttpServletResponse();
+        filterChain = new MockFilterChain();
+    }
+
+    @Test
+    public void doFilterWithValidTokenShouldPassTheRequestOnWithItsClaims() throws Exception {
+        // GIVEN
+        request.addHeader(HttpHeaders.AUTHORIZATION, token(clock.instant().getEpochSecond()));
+
+        // WHEN
+        filter.doFilter(request, response, filterChain);
+
+        // THEN
+        assertEquals("Fault [expected 'Forwarded Request' equals]", request, filterChain.getRequest());
+        assertEquals("Fault [expected 'Merchant Id' equals]", Integer.valueOf(3),
+                ((TokenClaims) request.getAttribute(AuthorizationTokenFilter.CLAIMS_ATTRIBUTE)).getMerchantId());
+    }
+
+    @Test
+    public void doFilterWithMissingTokenShouldReturnUnauthorized() throws Exception {
+        // WHEN
+        filter.doFilter(request, response, filterChain);
+
+        // THEN
+        assertNull("Fault [expected null]", filterChain.getRequest());
+        assertEquals("Fault [expected 'Status' equals]", 401, response.getStatus());
+        assertEquals("Fault [expected 'Body' equals]", "{\"errors\":[{\"message\":\"Token Missed!\"}]}", response.getContentAsString());
+    }
+
+    @Test
+    public void doFilterWithMalformedTokenShouldReturnUnauthorized() throws Exception {
+        // GIVEN
+        request.addHeader(HttpHeaders.AUTHORIZATION, "not.a-token");
+
+        // WHEN
+        filter.doFilter(request, response, filterChain);
+
+        // THEN
+        assertNull("Fault [expected null]", filterChain.getRequest());
+        assertEquals("Fault [expected 'Status' equals]", 401, response.getStatus());
+        assertTrue("Fault [expected true]", response.getContentAsString().contains("Token Invalid!"));
+    }
+
+    @Test
+    public void doFilterWithExpiredTokenShouldReturnUnauthorizedWithoutCallingTheUpstream() throws Exception {
+        // GIVEN
+        request.addHeader(HttpHeaders.AUTHORIZATION, token(1504108773L));
+
+        // WHEN
+        filter.doFilter(request, response, filterChain);
+
+        // THEN
+        assertNull("Fault [expected null]", filterChain.getRequest());
+        assertEquals("Fault [expected 'Status' equals]", 401, response.getStatus());
+        assertTrue("Fault [expected true]", response.getContentAsString().contains("Token Expired!"));
+        assertEquals("Fault [expected 'Rejections' equals]", 1.0,
+                meterRegistry.counter("authorization.token.rejections", "reason", "expired").count(), 0.0);
+    }
+
+    @Test
+    public void doFilterWithTokenExpiringWithinTheClockSkewShouldPassTheRequestOn() throws Exception {
+        // GIVEN
+        long issuedAt = clock.instant().minus(properties.getTokenLifetime()).getEpochSecond() + 1;
+        request.addHeader(HttpHeaders.AUTHORIZATION, token(issuedAt));
+
+        // WHEN
+        filter.doFilter(request, response, filterChain);
+
+        // THEN
+        assertEquals("Fault [expected 'Forwarded Request' equals]", request, filterChain.getRequest());
+    }
+
+    @Test
+    public void doFilterOfAdminRequestWithMissingTokenShouldReturnUnauthorized() throws Exception {
+        // GIVEN
+        request = new MockHttpServletRequest("DELETE", "/admin/cache/refunds/report");
+
+        // WHEN
+        filter.doFilter(request, response, filterChain);
+
+        // THEN
+        assertNull("Fault [expected null]", filterChain.getRequest());
+        assertEquals("Fault [expected 'Status' equals]", 401, response.getStatus());
+    }
+
+    @Test
+    public void doFilterOfAdminRequestWithoutAdminRoleShouldReturnForbidden() throws Exception {
+        // GIVEN
+        request = new MockHttpServletRequest("DELETE", "/admin/cache/refunds/report");
+        request.addHeader(HttpHeaders.AUTHORIZATION, token(clock.instant().getEpochSecond(), "user"));
+
+        // WHEN
+        filter.doFilter(request, response, filterChain);
+
+        // THEN
+        assertNull("Fault [expected null]", filterChain.getRequest());
+        assertEquals("Fault [expected 'Status' equals]", 403, response.getStatus());
+        assertTrue("Fault [expected true]", response.getContentAsString().contains("Admin Role Required!"));
+    }
+
+    @Test
+    public void doFilterOfAdminRequestWithForgedAdminTokenShouldReturnForbidden() throws Exception {
+        // GIVEN
+        request = new MockHttpServletRequest("DELETE", "/admin/cache/refunds/report");
+        request.addHeader(HttpHeaders.AUTHORIZATION, token(clock.instant().getEpochSecond()));
+
+        // WHEN
+        filter.doFilter(request, response, filterChain);
+
+        // THEN
+        assertNull("Fault [expected null]", filterChain.getRequest());
+        assertEquals("Fault [expected 'Status' equals]", 403, response.getStatus());
+        assertTrue("Fault [expected true]", response.getContentAsString().contains("Verified Admin Token Required!"));
+        assertEquals("Fault [expected 'Rejections' equals]", 1.0,
+                meterRegistry.counter("authorization.token.rejections", "reason", "unverified").count(), 0.0);
+    }
+
+    @Test
+    public void doFilterOfAdminRequestWithAdminRoleShouldPassTheRequestOn() throws Exception {
+        // GIVEN
+        String authToken = token(clock.instant().getEpochSecond());
+        authorizationScopes.verify(authToken);
+        request = new MockHttpServletRequest("DELETE", "/admin/cache/refunds/report");
+        request.addHeader(HttpHeaders.AUTHORIZATION, authToken);
+
+        // WHEN
+        filter.doFilter(request, response, filterChain);
+
+        // THEN
+        assertEquals("Fault [expected 'Forwarded Request' equals]", request, filterChain.getRequest());
+    }
+
+    private static String token(long timestamp) {
+        return token(timestamp, "admin");
+    }
+
+    private static String token(long timestamp, String role) {
+        return TestUtils.generateAuthorizationToken(
+                "{\"merchantUserId\":53,\"role\":\"" + role + "\",\"merchantId\":3,\"timestamp\":" + timestamp + "}");
+    }
+
+}
@@ -0,0 +1,202 @@
+package com.ozge.rollup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ozge.cache.DateBucket;
+import com.ozge.cache.RefundReportBucketCache;
+import com.ozge.cache.RefundReportCachePolicy;
+import com.ozge.configuration.properties.ReportServiceProperties;
+import com.ozge.model.response.RefundReport;
+import com.ozge.model.response.RefundReportResponse;
+import com.ozge.util.MutableClock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class RefundRollupStoreTest {
+
+    private static final String SCOPE = "merchant:3:admin:[3, 74]";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ReportServiceProperties properties = new ReportServiceProperties("https://sandbox-reporting.rpdpymnt.com/api/v3/refunds/report");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Path file;
+
+    private RefundRollupStore rollupStore;
+
+    @Before
+    public void setUp() throws Exception {
+        file = temporaryFolder.getRoot().toPath().resolve("rollup/refund-rollup.seg");
+        properties.getRollup().setFile(file.toString());
+        rollupStore = open();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        rollupStore.close();
+    }
+
+    @Test
+    public void storedDaysShouldBeAnsweredAfterReopening() throws Exception {
+        // GIVEN
+        rollupStore.put(SCOPE, 2, null, LocalDate.of(2018, 10, 1), report(3, 300L, 1, 10L));
+        rollupStore.put(SCOPE, 2, null, LocalDate.of(2018, 10, 2), report(4, 400L, 2, 20L));
+
+        // WHEN
+        reopen();
+        RefundReportResponse refundReportResponse = rollupStore.get(SCOPE, 2, null, LocalDate.of(2018, 10, 1), LocalDate.of(2018, 10, 2)).get();
+
+        // THEN
+        assertEquals("Fault [expected 'Status' equals]", "APPROVED", refundReportResponse.getStatus());
+        assertEquals("Fault [expected 'Currency' equals]", "USD", refundReportResponse.getRefundReports().get(0).getCurrency());
+        assertEquals("Fault [expected 'USD Count' equals]", Integer.valueOf(7), refundReportResponse.getRefundReports().get(0).getCount());
+        assertEquals("Fault [expected 'USD Total' equals]", Long.valueOf(700), refundReportResponse.getRefundReports().get(0).getTotal());
+        assertEquals("Fault [expected 'EUR Total' equals]", Long.valueOf(30), refundReportResponse.getRefundReports().get(1).getTotal());
+        assertFalse("Fault [expected false]", rollupStore.get(SCOPE, 2, null, LocalDate.of(2018, 10, 1), LocalDate.of(2018, 10, 3)).isPresent());
+        assertFalse("Fault [expected false]", rollupStore.get("merchant:4:admin:[]", 2, null, LocalDate.of(2018, 10, 1), LocalDate.of(2018, 10, 1)).isPresent());
+        assertFalse("Fault [expected false]", rollupStore.get(SCOPE, 2, 5, LocalDate.of(2018, 10, 1), LocalDate.of(2018, 10, 1)).isPresent());
+    }
+
+    @Test
+    public void segmentTruncatedInTheMiddleOfARecordShouldKeepTheDaysWrittenBefore() throws Exception {
+        // GIVEN
+        rollupStore.put(SCOPE, 2, null, LocalDate.of(2018, 10, 1), report(3, 300L, 1, 10L));
+        rollupStore.put(SCOPE, 2, null, LocalDate.of(2018, 10, 2), report(4, 400L, 2, 20L));
+        rollupStore.close();
+
+        // second row of the second day cut after 20 of its bytes
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(RefundRollupStore.HEADER_BYTES + 4L * RefundRollupStore.RECORD_BYTES + 20);
+        }
+
+        // WHEN
+        rollupStore = open();
+        rollupStore.put(SCOPE, 2, null, LocalDate.of(2018, 10, 3), report(5, 500L, 3, 30L));
+        reopen();
+
+        // THEN
+        assertTrue("Fault [expected true]", rollupStore.get(SCOPE, 2, null, LocalDate.of(2018, 10, 1), LocalDate.of(2018, 10, 1)).isPresent());
+        assertFalse("Fault [expected false]", rollupStore.get(SCOPE, 2, null, LocalDate.of(2018, 10, 2), LocalDate.of(2018, 10, 2)).isPresent());
+        assertEquals("Fault [expected 'USD Count' equals]", Integer.valueOf(5),
+                rollupStore.get(SCOPE, 2, null, LocalDate.of(2018, 10, 3), LocalDate.of(2018, 10, 3)).get().getRefundReports().get(0).getCount());
+        assertEquals("Fault [expected 'Days' equals]", 2, rollupStore.size());
+        assertEquals("Fault [expected 'Bytes' equals]", RefundRollupStore.HEADER_BYTES + 6 * RefundRollupStore.RECORD_BYTES, rollupStore.bytes());
+    }
+
+    @Test
+    public void compactionShouldBoundTheSegmentAndKeepTheLatestReportOfEveryDay() throws Exception {
+        // GIVEN
+        properties.getRollup().setMaxBytes(RefundRollupStore.HEADER_BYTES + 64 * RefundRollupStore.RECORD_BYTES);
+        reopen();
+
+        // WHEN
+        for (int i = 1; i <= 100; i++) {
+            rollupStore.put(SCOPE, 2, null, LocalDate.of(2018, 10, 1), report(i, i * 100L, 1, 10L));
+        }
+        for (int day = 0; day < 30; day++) {
+            rollupStore.put(SCOPE, 2, null, LocalDate.of(2018, 9, 1).plusDays(day), report(1, 100L, 1, 10L));
+        }
+        reopen();
+
+        // THEN
+        assertEquals("Fault [expected 'File Size' equals]", (long) RefundRollupStore.HEADER_BYTES + 64 * RefundRollupStore.RECORD_BYTES, Files.size(file));
+        assertEquals("Fault [expected 'USD Count' equals]", Integer.valueOf(100),
+                rollupStore.get(SCOPE, 2, null, LocalDate.of(2018, 10, 1), LocalDate.of(2018, 10, 1)).get().getRefundReports().get(0).getCount());
+        assertTrue("Fault [expected true]", rollupStore.get(SCOPE, 2, null, LocalDate.of(2018, 9, 30), LocalDate.of(2018, 9, 30)).isPresent());
+        assertFalse("Fault [expected false]", rollupStore.get(SCOPE, 2, null, LocalDate.of(2018, 9, 1), LocalDate.of(2018, 9, 1)).isPresent());
+        assertTrue("Fault [expected true]", meterRegistry.counter("report.rollup.dropped.days").count() > 0);
+    }
+
+    @Test
+    public void storedDaysShouldBeAnsweredWithTheStatusOfTheirReport() throws Exception {
+        // GIVEN
+        rollupStore.put(SCOPE, 2, null, LocalDate.of(2018, 10, 1), new RefundReportResponse("DECLINED", Arrays.asList()));
+        rollupStore.put(SCOPE, 2, null, LocalDate.of(2018, 10, 2), new RefundReportResponse("PENDING-REVIEW", Arrays.asList()));
+
+        // WHEN
+        reopen();
+
+        // THEN
+        assertEquals("Fault [expected 'Status' equals]", "DECLINED",
+                rollupStore.get(SCOPE, 2, null, LocalDate.of(2018, 10, 1), LocalDate.of(2018, 10, 1)).get().getStatus());
+        assertFalse("Fault [expected false]", rollupStore.get(SCOPE, 2, null, LocalDate.of(2018, 10, 2), LocalDate.of(2018, 10, 2)).isPresent());
+    }
+
+    @Test
+    public void expiredDaysShouldStayDroppedAfterReopening() throws Exception {
+        // GIVEN
+        rollupStore.put(SCOPE, 2, null, LocalDate.of(2018, 10, 1), report(3, 300L, 1, 10L));
+        rollupStore.put(SCOPE, 2, null, LocalDate.of(2018, 10, 2), report(4, 400L, 2, 20L));
+
+        // WHEN
+        int expired = rollupStore.expire(LocalDate.of(2018, 10, 2), LocalDate.of(2018, 10, 5));
+        reopen();
+
+        // THEN
+        assertEquals("Fault [expected 'Expired' equals]", 1, expired);
+        assertTrue("Fault [expected true]", rollupStore.get(SCOPE, 2, null, LocalDate.of(2018, 10, 1), LocalDate.of(2018, 10, 1)).isPresent());
+        assertFalse("Fault [expected false]", rollupStore.get(SCOPE, 2, null, LocalDate.of(2018, 10, 2), LocalDate.of(2018, 10, 2)).isPresent());
+    }
+
+    @Test
+    public void bucketCacheShouldAnswerClosedBucketsFromTheStoreAfterARestart() throws Exception {
+        // GIVEN
+        MutableClock clock = new MutableClock(LocalDate.of(2018, 10, 20).atTime(12, 0).toInstant(ZoneOffset.UTC));
+        RefundReportBucketCache bucketCache = bucketCache(clock);
+        for (LocalDate day = LocalDate.of(2018, 9, 1); day.isBefore(LocalDate.of(2018, 10, 1)); day = day.plusDays(1)) {
+            bucketCache.put(SCOPE, null, null, DateBucket.day(day), report(1, 100L, 1, 10L));
+        }
+        bucketCache.put(SCOPE, null, null, DateBucket.day(LocalDate.of(2018, 10, 20)), report(1, 100L, 1, 10L));
+
+        // WHEN
+        reopen();
+        bucketCache = bucketCache(clock);
+        Optional<RefundReportResponse> month = bucketCache.get(SCOPE, null, null, DateBucket.month(YearMonth.of(2018, 9)));
+
+        // THEN
+        assertEquals("Fault [expected 'USD Count' equals]", Integer.valueOf(30), month.get().getRefundReports().get(0).getCount());
+        assertFalse("Fault [expected false]", bucketCache.get(SCOPE, null, null, DateBucket.day(LocalDate.of(2018, 10, 20))).isPresent());
+    }
+
+    private RefundReportBucketCache bucketCache(MutableClock clock) {
+        return new RefundReportBucketCache(new RefundReportCachePolicy(properties), clock, new SimpleMeterRegistry(), properties, Optional.of(rollupStore));
+    }
+
+    private void reopen() throws IOException {
+        rollupStore.close();
+        rollupStore = open();
+    }
+
+    private RefundRollupStore open() {
+        return new RefundRollupStore(meterRegistry, properties);
+    }
+
+    private static RefundReportResponse report(int usdCount, long usdTotal, int eurCount, long eurTotal) {
+        return new RefundReportResponse("APPROVED", Arrays.asList(
+                new RefundReport(usdCount, usdTotal, "USD"),
+                new RefundReport(eurCount, eurTotal, "EUR")));
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.ozge.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import com.ozge.cache.AuthTokenCache;
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.concurrent.UpstreamBulkhead;
+import com.ozge.configuration.properties.Bulkhead;
+import com.ozge.configuration.properties.Path;
+import com.ozge.configuration.properties.UserServiceProperties;
+import com.ozge.model.request.Credentials;
+import com.ozge.model.response.AuthToken;
+import com.ozge.service.impl.UserServiceImpl;
+import com.ozge.util.BaseTestCase;
+import com.ozge.util.MutableClock;
+import com.ozge.util.TestUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachedUserServiceTest extends BaseTestCase {
+
+    @Mock
+    private RestTemplate restTemplateMock;
+
+    private final UserServiceProperties properties = new UserServiceProperties(new Path("https://sandbox-reporting.rpdpymnt.com/api/v3/merchant/user/login"), new Path("https://sandbox-reporting.rpdpymnt.com/api/v3/merchant/user/show"));
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2018-10-20T12:00:00Z"));
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+
+    private UserService userService;
+
+    @Before
+    public void setUp() {
+        userService = new UserServiceImpl(restTemplateMock, properties,
+                new AuthTokenCache(clock, meterRegistry, properties, refreshTasks::add), new AuthorizationScopes(),
+                new UpstreamBulkhead("login", new Bulkhead(), meterRegistry), new UpstreamBulkhead("user-info", new Bulkhead(), meterRegistry));
+    }
+
+    @Test
+    public void loginTwiceWithSameCredentialsShouldCallTheUpstreamOnce() throws Exception {
+        // GIVEN
+        final String authToken = token(clock.instant());
+        whenLoginReturn(authToken);
+
+        // WHEN
+        userService.login(credentials("demo@demo.com", "lkj123asd"));
+        AuthToken token = userService.login(credentials("demo@demo.com", "lkj123asd")).get();
+
+        // THEN
+        verifyLoginCalled(1);
+        assertEquals("Fault [expected 'Authorization Token' equals]", authToken, token.getToken());
+        assertEquals("Fault [expected 'Hits' equals]", 1.0, meterRegistry.counter("auth.token.cache.requests", "result", "hit").count(), 0.0);
+        assertEquals("Fault [expected 'Misses' equals]", 1.0, meterRegistry.counter("auth.token.cache.requests", "result", "miss").count(), 0.0);
+    }
+
+    @Test
+    public void loginWithAnotherPasswordShouldCallTheUpstreamAgain() throws Exception {
+        // GIVEN
+        whenLoginReturn(token(clock.instant()));
+        userService.login(credentials("demo@demo.com", "lkj123asd"));
+
+        // WHEN
+        userService.login(credentials("demo@demo.com", "wrong"));
+
+        // THEN
+        verifyLoginCalled(2);
+    }
+
+    @Test
+    public void loginWithinTheRefreshWindowShouldReturnTheCachedTokenAndRefreshInTheBackground() throws Exception {
+        // GIVEN
+        final String authToken = token(clock.instant());
+        final String refreshedAuthToken = token(clock.instant().plus(Duration.ofMinutes(9)));
+        whenLoginReturn(authToken, refreshedAuthToken);
+        userService.login(credentials("demo@demo.com", "lkj123asd"));
+        clock.advance(Duration.ofMinutes(9));
+
+        // WHEN
+        AuthToken token = userService.login(credentials("demo@demo.com", "lkj123asd")).get();
+        userService.login(credentials("demo@demo.com", "lkj123asd"));
+
+        // THEN
+        verifyLoginCalled(1);
+        assertEquals("Fault [expected 'Authorization Token' equals]", authToken, token.getToken());
+        assertEquals("Fault [expected 'Refresh Tasks' equals]", 1, refreshTasks.size());
+
+        refreshTasks.get(0).run();
+
+        verifyLoginCalled(2);
+        assertEquals("Fault [expected 'Refreshed Authorization Token' equals]", refreshedAuthToken,
+                userService.login(credentials("demo@demo.com", "lkj123asd")).get().getToken());
+    }
+
+    @Test
+    public void loginWithExpiredTokenShouldNotBeCached() throws Exception {
+        // GIVEN
+        whenLoginReturn(token(Instant.ofEpochSecond(1504108773)));
+        userService.login(credentials("demo@demo.com", "lkj123asd"));
+
+        // WHEN
+        userService.login(credentials("demo@demo.com", "lkj123asd"));
+
+        // THEN
+        verifyLoginCalled(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void whenLoginReturn(String authToken, String... authTokens) {
+        ResponseEntity<AuthToken>[] responses = new ResponseEntity[authTokens.length];
+
+        for (int i = 0; i < authTokens.length; i++) {
+            responses[i] = response(authTokens[i]);
+        }
+
+        when(restTemplateMock.exchange(eq(properties.getLogin().getUrl()), eq(HttpMethod.POST), any(HttpEntity.class), eq(AuthToken.class)))
+                .thenReturn(response(authToken), responses);
+    }
+
+    private void verifyLoginCalled(int times) {
+        verify(restTemplateMock, times(times)).exchange(eq(properties.getLogin().getUrl()), eq(HttpMethod.POST), any(HttpEntity.class), eq(AuthToken.class));
+    }
+
+    private static ResponseEntity<AuthToken> response(String authToken) {
+        AuthToken token = new AuthToken();
+        token.setToken(authToken);
+        return new ResponseEntity<>(token, HttpStatus.OK);
+    }
+
+    private static String token(Instant issuedAt) {
+        return TestUtils.generateAuthorizationToken(
+                "{\"merchantUserId\":53,\"role\":\"admin\",\"merchantId\":3,\"timestamp\":" + issuedAt.getEpochSecond() + "}");
+    }
+
+    private static Credentials credentials(String email, String password) {
+        Credentials credentials = new Credentials();
+        credentials.setEmail(email);
+        credentials.setPassword(password);
+        return credentials;
+    }
+
+}
@@ -28,6 +28,9 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.concurrent.UpstreamBulkhead;
+import com.ozge.configuration.properties.Bulkhead;
 import com.ozge.configuration.properties.ClientServiceProperties;
 import com.ozge.exception.NullCustomerInfoException;
 import com.ozge.model.request.ClientRequest;
@@ -37,6 +40,9 @@ import com.ozge.service.impl.ClientServiceImpl;
 import com.ozge.util.BaseTestCase;
 import com.ozge.util.TestUtils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @RunWith(MockitoJUnitRunner.class)
 public class ClientServiceTest extends BaseTestCase {
 
@@ -48,11 +54,14 @@ public class ClientServiceTest extends BaseTestCase {
 
     private ClientService clientService;
 
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private final ClientServiceProperties properties = new ClientServiceProperties("https://sandbox-reporting.rpdpymnt.com/api/v3/client");
 
     @Before
     public void setUp() {
-        clientService = new ClientServiceImpl(restTemplateMock, properties);
+        clientService = new ClientServiceImpl(restTemplateMock, properties, new AuthorizationScopes(), meterRegistry,
+                new UpstreamBulkhead("client", new Bulkhead(), meterRegistry));
     }
 
 
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.util.Optional;
 
 import org.junit.Before;
@@ -28,6 +29,10 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import com.ozge.cache.AuthTokenCache;
+import com.ozge.cache.AuthorizationScopes;
+import com.ozge.concurrent.UpstreamBulkhead;
+import com.ozge.configuration.properties.Bulkhead;
 import com.ozge.configuration.properties.Path;
 import com.ozge.configuration.properties.UserServiceProperties;
 import com.ozge.model.request.Credentials;
@@ -38,6 +43,9 @@ import com.ozge.service.impl.UserServiceImpl;
 import com.ozge.util.BaseTestCase;
 import com.ozge.util.TestUtils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 
 @RunWith(MockitoJUnitRunner.class)
 public class UserServiceTest extends BaseTestCase {
@@ -54,7 +62,13 @@ public class UserServiceTest extends BaseTestCase {
 
     @Before
     public void setUp() {
-        userService = new UserServiceImpl(restTemplateMock, properties);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // the service as it calls the upstream, without the token cache in front
+        properties.getCache().setEnabled(false);
+
+        userService = new UserServiceImpl(restTemplateMock, properties,
+                new AuthTokenCache(Clock.systemUTC(), meterRegistry, properties, Runnable::run), new AuthorizationScopes(),
+                new UpstreamBulkhead("login", new Bulkhead(), meterRegistry), new UpstreamBulkhead("user-info", new Bulkhead(), meterRegistry));
     }
 
 
@@ -0,0 +1,80 @@
+package com.ozge.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.ozge.cache.EncodedResponse;
+
+public class HttpUtilsTest extends BaseTestCase {
+
+    private final byte[] body = "{\"status\":\"APPROVED\",\"response\":[{\"count\":5,\"total\":500,\"currency\":\"USD\"}]}".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] gzipBody = { 31, -117, 8, 0 };
+
+    private final EncodedResponse encodedResponse = new EncodedResponse(body, gzipBody, HttpUtils.etag(body), Instant.EPOCH);
+
+    @Test
+    public void etagShouldChangeWithTheContent() throws Exception {
+        // GIVEN
+        byte[] changed = body.clone();
+        changed[changed.length - 5] = '6';
+
+        // THEN
+        assertEquals("Fault [expected 'ETag' equals]", HttpUtils.etag(body.clone()), HttpUtils.etag(body));
+        assertNotEquals("Fault [expected 'ETag' not equals]", HttpUtils.etag(body), HttpUtils.etag(changed));
+    }
+
+    @Test
+    public void matchingIfNoneMatchShouldAnswerNotModifiedWithoutBody() throws Exception {
+        // WHEN
+        ResponseEntity<byte[]> identity = HttpUtils.toResponseEntity(encodedResponse, null, "\"other\", W/" + encodedResponse.getEtag());
+        ResponseEntity<byte[]> gzip = HttpUtils.toResponseEntity(encodedResponse, "gzip, deflate", encodedResponse.getEtag());
+
+        // THEN
+        assertEquals("Fault [expected 'Status' equals]", HttpStatus.NOT_MODIFIED, identity.getStatusCode());
+        assertNull("Fault [expected null]", identity.getBody());
+        assertEquals("Fault [expected 'ETag' equals]", encodedResponse.getEtag(), identity.getHeaders().getETag());
+        assertEquals("Fault [expected 'Status' equals]", HttpStatus.NOT_MODIFIED, gzip.getStatusCode());
+        assertEquals("Fault [expected 'ETag' equals]", encodedResponse.getGzipEtag(), gzip.getHeaders().getETag());
+    }
+
+    @Test
+    public void staleIfNoneMatchShouldAnswerTheBodyOfTheAcceptedEncoding() throws Exception {
+        // WHEN
+        ResponseEntity<byte[]> identity = HttpUtils.toResponseEntity(encodedResponse, null, "\"stale\"");
+        ResponseEntity<byte[]> gzip = HttpUtils.toResponseEntity(encodedResponse, "gzip", null);
+
+        // THEN
+        assertEquals("Fault [expected 'Status' equals]", HttpStatus.OK, identity.getStatusCode());
+        assertArrayEquals("Fault [expected 'Body' equals]", body, identity.getBody());
+        assertArrayEquals("Fault [expected 'Body' equals]", gzipBody, gzip.getBody());
+        assertEquals("Fault [expected 'Content Encoding' equals]", "gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("Fault [expected 'Vary' equals]", HttpHeaders.ACCEPT_ENCODING, identity.getHeaders().getFirst(HttpHeaders.VARY));
+    }
+
+    @Test
+    public void bodyWithoutGzipCopyShouldBeTaggedWeakly() throws Exception {
+        // GIVEN
+        EncodedResponse uncompressed = new EncodedResponse(body, null, HttpUtils.etag(body), Instant.EPOCH);
+
+        // WHEN
+        ResponseEntity<byte[]> response = HttpUtils.toResponseEntity(uncompressed, "gzip", null);
+        ResponseEntity<byte[]> notModified = HttpUtils.toResponseEntity(uncompressed, "gzip", response.getHeaders().getETag());
+
+        // THEN
+        assertEquals("Fault [expected 'ETag' equals]", "W/" + uncompressed.getEtag(), response.getHeaders().getETag());
+        assertArrayEquals("Fault [expected 'Body' equals]", body, response.getBody());
+        assertEquals("Fault [expected 'Status' equals]", HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+    }
+
+}
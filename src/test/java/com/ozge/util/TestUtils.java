@@ -1,5 +1,8 @@
 package com.ozge.util;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -17,6 +20,13 @@ public class TestUtils {
         return headers;
     }
 
+    public static String generateAuthorizationToken(String claims) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"typ\":\"JWT\",\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+
     public static String generateAuthorizationTokenWithValidCredentials(RestTemplate restTemplate, String loginUrl, String email, String password) {
         Credentials credentials = new Credentials();
         credentials.setEmail(email);